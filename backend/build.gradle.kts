@@ -2,6 +2,8 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.0"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
+	id("org.graalvm.buildtools.native") version "0.10.6"
 }
 
 group = "com.taskmanager"
@@ -24,11 +26,21 @@ repositories {
 }
 
 dependencies {
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("org.springframework.boot:spring-boot-starter-aop")
+	implementation("org.springframework.boot:spring-boot-starter-cache")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-web")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+	implementation("org.flywaydb:flyway-core")
+	implementation("org.hibernate.orm:hibernate-micrometer")
 	compileOnly("org.projectlombok:lombok")
 	runtimeOnly("com.h2database:h2")
+	runtimeOnly("org.postgresql:postgresql")
+	runtimeOnly("org.flywaydb:flyway-database-postgresql")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 	annotationProcessor("org.projectlombok:lombok")
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
@@ -37,3 +49,122 @@ dependencies {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// AOT processing fixes the bean definitions, including @ConditionalOnProperty outcomes, at build time.
+// They are computed for the prod profile the Docker image runs with; the AOT code is only used when
+// the jar is started with -Dspring.aot.enabled=true. Settings meant to be switched per deployment are
+// therefore read by always-present beans at startup; aotRuntimeSwitches checks that they still work.
+tasks.named<org.springframework.boot.gradle.tasks.aot.ProcessAot>("processAot") {
+	args("--spring.profiles.active=prod")
+}
+
+// Native executable: ./gradlew nativeCompile (needs a GraalVM JDK); output in build/native/nativeCompile.
+// -PnativeStatic links it statically against musl, as for the Alpine-based native Docker image.
+graalvmNative {
+	// The tests mock beans with Mockito, which cannot run in a native image; the hurl suite is run
+	// against the native binary instead
+	testSupport = false
+	metadataRepository {
+		enabled = true
+	}
+	binaries {
+		named("main") {
+			imageName = "taskmanager"
+			if (project.hasProperty("nativeStatic")) {
+				buildArgs.addAll("--static", "--libc=musl")
+			}
+		}
+	}
+}
+
+// Starts the boot jar and reports the time until the first GET /api/tasks succeeds.
+// JVM options can be given with -PstartupJvmArgs="...", e.g. to compare runs without AOT.
+tasks.register("timeToFirstRequest") {
+	group = "verification"
+	description = "Measures the time from launching the boot jar to its first successful request."
+	dependsOn(tasks.bootJar)
+	doLast {
+		val jar = tasks.bootJar.get().archiveFile.get().asFile
+		val jvmArgs = (findProperty("startupJvmArgs") as String? ?: "-Dspring.aot.enabled=true")
+			.split(" ").filter { it.isNotBlank() }
+		val port = 18080
+		val reportDir = layout.buildDirectory.dir("reports/startup").get().asFile.apply { mkdirs() }
+		val command = listOf("java") + jvmArgs + listOf(
+			"-jar", jar.path,
+			"--server.port=$port",
+			"--spring.profiles.active=prod",
+			"--spring.datasource.url=jdbc:h2:mem:startup",
+		)
+
+		val client = java.net.http.HttpClient.newHttpClient()
+		val request = java.net.http.HttpRequest.newBuilder(java.net.URI("http://localhost:$port/api/tasks")).build()
+		val start = System.nanoTime()
+		val process = ProcessBuilder(command)
+			.redirectErrorStream(true)
+			.redirectOutput(File(reportDir, "application.log"))
+			.start()
+		try {
+			while (true) {
+				check(process.isAlive) { "Application exited early, see ${File(reportDir, "application.log")}" }
+				check(System.nanoTime() - start < 120_000_000_000) { "No successful request within 120s" }
+				val status = try {
+					client.send(request, java.net.http.HttpResponse.BodyHandlers.discarding()).statusCode()
+				} catch (e: java.io.IOException) {
+					0
+				}
+				if (status == 200) {
+					break
+				}
+				Thread.sleep(20)
+			}
+			val millis = (System.nanoTime() - start) / 1_000_000
+			val result = "Time to first request: $millis ms (${jvmArgs.joinToString(" ")})"
+			File(reportDir, "time-to-first-request.txt").writeText(result + "\n")
+			logger.lifecycle(result)
+		} finally {
+			process.destroy()
+			process.waitFor()
+		}
+	}
+}
+
+// Starts the boot jar with the AOT bean definitions and the deployment switches flipped from their
+// prod defaults, and checks from the startup log that the switches took effect. The context exits
+// once refreshed, so no request is made.
+tasks.register("aotRuntimeSwitches") {
+	group = "verification"
+	description = "Checks that runtime switches are honoured with the AOT-generated bean definitions."
+	dependsOn(tasks.bootJar)
+	doLast {
+		val jar = tasks.bootJar.get().archiveFile.get().asFile
+		val reportDir = layout.buildDirectory.dir("reports/aot").get().asFile.apply { mkdirs() }
+		val log = File(reportDir, "runtime-switches.log")
+		val process = ProcessBuilder(
+			"java", "-Dspring.aot.enabled=true", "-Dspring.context.exit=onRefresh",
+			"-jar", jar.path,
+			"--server.port=0",
+			"--spring.profiles.active=prod",
+			"--spring.datasource.url=jdbc:h2:mem:switches",
+			"--spring.threads.virtual.enabled=true",
+			"--taskmanager.concurrency.enabled=false",
+		)
+			.redirectErrorStream(true)
+			.redirectOutput(log)
+			.start()
+		check(process.waitFor(120, java.util.concurrent.TimeUnit.SECONDS)) { "Application did not exit within 120s, see $log" }
+		val output = log.readText()
+		check("Serving requests on virtual threads" in output) { "spring.threads.virtual.enabled was ignored, see $log" }
+		check("API concurrency limits are disabled" in output) { "taskmanager.concurrency.enabled was ignored, see $log" }
+		logger.lifecycle("Runtime switches honoured with AOT")
+	}
+}
+
+// Benchmarks live in src/jmh/java; run with ./gradlew jmh
+jmh {
+	jmhVersion = "1.37"
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+}
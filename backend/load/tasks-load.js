@@ -0,0 +1,56 @@
+// Bursty mixed read/write load against the Task Manager API
+// Usage: k6 run --summary-export=results.json tasks-load.js
+// Set BASE_URL to target another host (default http://localhost:8080/api)
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const SEED_TASKS = 200;
+
+export const options = {
+  scenarios: {
+    burst: {
+      executor: 'ramping-arrival-rate',
+      startRate: 50,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+      stages: [
+        { target: 200, duration: '30s' },
+        { target: 1500, duration: '20s' }, // burst
+        { target: 1500, duration: '1m' },
+        { target: 200, duration: '20s' },
+      ],
+    },
+  },
+  summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+const jsonHeaders = { headers: { 'Content-Type': 'application/json' } };
+
+export function setup() {
+  const tasks = [];
+  for (let i = 0; i < SEED_TASKS; i++) {
+    tasks.push({ title: `Load test task ${i}`, status: 'TODO' });
+  }
+  const response = http.post(`${BASE_URL}/tasks/batch`, JSON.stringify(tasks), jsonHeaders);
+  return { ids: response.json('results.#.id') };
+}
+
+export default function (data) {
+  const roll = Math.random();
+
+  if (roll < 0.8) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const response = http.get(`${BASE_URL}/tasks/${id}`, { tags: { name: 'get-task' } });
+    check(response, { 'get 200': (r) => r.status === 200 });
+  } else if (roll < 0.9) {
+    const response = http.get(`${BASE_URL}/tasks?limit=50`, { tags: { name: 'list-tasks' } });
+    check(response, { 'list 200': (r) => r.status === 200 });
+  } else {
+    const body = JSON.stringify({ title: 'Load test write', status: 'IN_PROGRESS' });
+    const response = http.post(`${BASE_URL}/tasks`, body, { ...jsonHeaders, tags: { name: 'create-task' } });
+    check(response, { 'create 201': (r) => r.status === 201 });
+  }
+}
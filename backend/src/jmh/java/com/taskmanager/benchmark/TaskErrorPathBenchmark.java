@@ -0,0 +1,97 @@
+package com.taskmanager.benchmark;
+
+import com.taskmanager.TaskManagerApplication;
+import com.taskmanager.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Successful and failing requests over HTTP against the running application: a cached task (200), an
+ * unknown id (404) and an invalid task (400). Error responses should cost about as much as a 200;
+ * compare the throughput of the three benchmarks rather than their absolute values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class TaskErrorPathBenchmark {
+
+    private static final int PRELOADED_TASKS = 1_000;
+
+    private static final String INVALID_TASK = """
+            {"title": "", "status": "TODO", "dueDate": "2026-01-15"}""";
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .properties(
+                        "server.port=0",
+                        // Measure the error paths, not load shedding
+                        "taskmanager.concurrency.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/tasks/";
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        TaskService taskService = context.getBean(TaskService.class);
+        firstId = taskService.createTask(Tasks.newTask(0)).getId();
+        for (int i = 1; i < PRELOADED_TASKS; i++) {
+            taskService.createTask(Tasks.newTask(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] found() throws IOException, InterruptedException {
+        return get(firstId + ThreadLocalRandom.current().nextInt(PRELOADED_TASKS), 200);
+    }
+
+    @Benchmark
+    public byte[] notFound() throws IOException, InterruptedException {
+        // Ids past the preloaded ones, never created, so every request misses
+        return get(firstId + PRELOADED_TASKS + 1_000_000 + ThreadLocalRandom.current().nextInt(PRELOADED_TASKS), 404);
+    }
+
+    @Benchmark
+    public byte[] invalid() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(INVALID_TASK))
+                .build();
+        return send(request, 400);
+    }
+
+    private byte[] get(long id, int expectedStatus) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + id)).build(), expectedStatus);
+    }
+
+    private byte[] send(HttpRequest request, int expectedStatus) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException("Expected " + expectedStatus + " but got " + response.statusCode());
+        }
+        return response.body();
+    }
+
+}
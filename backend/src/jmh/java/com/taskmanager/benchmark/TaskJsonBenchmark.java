@@ -0,0 +1,83 @@
+package com.taskmanager.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanager.model.Task;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization and deserialization of a single {@link Task} and of task lists, with the
+ * mapper configured the way Spring Boot configures it for the REST layer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskJsonBenchmark {
+
+    private static final TypeReference<List<Task>> TASK_LIST = new TypeReference<>() {
+    };
+
+    private ObjectMapper objectMapper;
+    private Task task;
+    private byte[] taskJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = newObjectMapper();
+        task = Tasks.newTasks(1).getFirst();
+        taskJson = objectMapper.writeValueAsBytes(task);
+    }
+
+    /**
+     * The task lists, in a state of their own so only the list benchmarks run once per size.
+     */
+    @State(Scope.Benchmark)
+    public static class TaskList {
+
+        @Param({"1000", "100000"})
+        public int size;
+
+        private List<Task> tasks;
+        private byte[] tasksJson;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            tasks = Tasks.newTasks(size);
+            tasksJson = newObjectMapper().writeValueAsBytes(tasks);
+        }
+
+    }
+
+    private static ObjectMapper newObjectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeTask() throws IOException {
+        return objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public Task deserializeTask() throws IOException {
+        return objectMapper.readValue(taskJson, Task.class);
+    }
+
+    @Benchmark
+    public byte[] serializeTaskList(TaskList list) throws IOException {
+        return objectMapper.writeValueAsBytes(list.tasks);
+    }
+
+    @Benchmark
+    public List<Task> deserializeTaskList(TaskList list) throws IOException {
+        return objectMapper.readValue(list.tasksJson, TASK_LIST);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.taskmanager.benchmark;
+
+import com.taskmanager.TaskManagerApplication;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Create, read, update and delete through {@link TaskService} against the in-memory H2 database,
+ * including transactions, caching and Hibernate, but without the web layer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TaskServiceBenchmark {
+
+    private static final int PRELOADED_TASKS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        taskService = context.getBean(TaskService.class);
+
+        firstId = taskService.createTask(Tasks.newTask(0)).getId();
+        for (int i = 1; i < PRELOADED_TASKS; i++) {
+            taskService.createTask(Tasks.newTask(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task create() {
+        return taskService.createTask(Tasks.newTask(42));
+    }
+
+    @Benchmark
+    public Task getById() {
+        return taskService.getTaskById(randomPreloadedId());
+    }
+
+    @Benchmark
+    public Task update() {
+        Task details = Tasks.newTask(7);
+        details.setStatus(TaskStatus.IN_PROGRESS);
+        return taskService.updateTask(randomPreloadedId(), details, null);
+    }
+
+    @Benchmark
+    public void createAndDelete() {
+        Task task = taskService.createTask(Tasks.newTask(13));
+        taskService.deleteTask(task.getId());
+    }
+
+    private long randomPreloadedId() {
+        return firstId + ThreadLocalRandom.current().nextInt(PRELOADED_TASKS);
+    }
+
+}
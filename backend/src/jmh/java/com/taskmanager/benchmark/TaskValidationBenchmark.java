@@ -0,0 +1,52 @@
+package com.taskmanager.benchmark;
+
+import com.taskmanager.model.Task;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation cost of the constraints that {@code @Valid Task} triggers on every write request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private Task validTask;
+    private Task invalidTask;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validTask = Tasks.newTask(1);
+        invalidTask = Tasks.newTask(2);
+        invalidTask.setTitle("");
+        invalidTask.setDescription("a".repeat(501));
+        invalidTask.setStatus(null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Task>> validateValidTask() {
+        return validator.validate(validTask);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Task>> validateInvalidTask() {
+        return validator.validate(invalidTask);
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.taskmanager.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanager.config.WebConfig;
+import com.taskmanager.model.Task;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of task lists in the negotiable wire formats: JSON and the compact CBOR
+ * encoding. The payload size of each format is reported as the secondary {@code payloadBytes} result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskWireFormatBenchmark {
+
+    private static final TypeReference<List<Task>> TASK_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<Task> tasks;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper = switch (format) {
+            case "json" -> builder.build();
+            case "cbor" -> WebConfig.cborMapper(builder);
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        tasks = Tasks.newTasks(size);
+        payload = objectMapper.writeValueAsBytes(tasks);
+    }
+
+    /**
+     * Size of the encoded task list, reported next to the timing.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize payloadSize) throws IOException {
+        byte[] encoded = objectMapper.writeValueAsBytes(tasks);
+        payloadSize.payloadBytes = encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public List<Task> decode(PayloadSize payloadSize) throws IOException {
+        payloadSize.payloadBytes = payload.length;
+        return objectMapper.readValue(payload, TASK_LIST);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.taskmanager.benchmark;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test data shared by the benchmarks.
+ */
+final class Tasks {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private Tasks() {
+    }
+
+    static Task newTask(int i) {
+        Task task = new Task();
+        task.setTitle("Benchmark task " + i);
+        task.setDescription("Description of benchmark task " + i + " with a few more words in it");
+        task.setStatus(STATUSES[i % STATUSES.length]);
+        task.setDueDate(LocalDate.of(2026, 1, 1).plusDays(i % 365));
+        return task;
+    }
+
+    static List<Task> newTasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = newTask(i);
+            task.setId((long) i + 1);
+            task.setVersion(0L);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+
+/**
+ * Concurrency limit that follows the latency of the requests it admits (AIMD). A request slower
+ * than the latency threshold, or one that failed with a server error, cuts the limit by the backoff
+ * ratio; a fast request raises it by one while the limit is actually in use. When the database
+ * slows down the limit shrinks, so excess requests are rejected instead of piling up.
+ */
+public class AdaptiveConcurrencyLimit implements MeterBinder {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+
+    // Guarded by this
+    private double limit;
+    private int inFlight;
+    private long rejected;
+
+    public AdaptiveConcurrencyLimit(String name, int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Admits a request if the limit allows it. Every admitted request must be followed by exactly one
+     * {@link #release}.
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            rejected++;
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    public synchronized void release(long latencyNanos, boolean failed) {
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        } else if (inFlight * 2 >= limit) {
+            // Only grow while at least half the limit is used, so an idle limit does not drift to the max
+            limit = Math.min(maxLimit, limit + 1);
+        }
+        inFlight--;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("taskmanager.concurrency.limit", this, AdaptiveConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("budget", name)
+                .register(registry);
+        Gauge.builder("taskmanager.concurrency.in-flight", this, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Requests currently admitted")
+                .tag("budget", name)
+                .register(registry);
+        FunctionCounter.builder("taskmanager.concurrency.rejected", this, AdaptiveConcurrencyLimit::getRejected)
+                .description("Requests rejected with 503 because the limit was reached")
+                .tag("budget", name)
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.taskmanager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String TASKS_CACHE = "tasks";
+
+    @Value("${taskmanager.cache.tasks.spec:maximumSize=10000,expireAfterWrite=60s,recordStats}")
+    private String tasksCacheSpec;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(TASKS_CACHE);
+        cacheManager.setCacheSpecification(tasksCacheSpec);
+
+        // Evictions only take effect after the writing transaction commits. TaskLoadCoalescer keeps a load that
+        // overlapped the commit from caching the row as it was before.
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.taskmanager.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.taskmanager.model.TaskStatus;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Jackson module for the binary wire format: {@link TaskStatus} is written as its ordinal and
+ * {@link LocalDate} as its epoch day, so neither needs a string on the wire.
+ */
+public class CompactTaskModule extends SimpleModule {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    public CompactTaskModule() {
+        super("CompactTaskModule");
+        addSerializer(TaskStatus.class, new JsonSerializer<>() {
+            @Override
+            public void serialize(TaskStatus value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                gen.writeNumber(value.ordinal());
+            }
+        });
+        addDeserializer(TaskStatus.class, new JsonDeserializer<>() {
+            @Override
+            public TaskStatus deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+                int ordinal = p.getValueAsInt(-1);
+                if (ordinal < 0 || ordinal >= STATUSES.length) {
+                    throw InvalidFormatException.from(p, "Unknown task status", p.getText(), TaskStatus.class);
+                }
+                return STATUSES[ordinal];
+            }
+        });
+        addSerializer(LocalDate.class, new JsonSerializer<>() {
+            @Override
+            public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                gen.writeNumber(value.toEpochDay());
+            }
+        });
+        addDeserializer(LocalDate.class, new JsonDeserializer<>() {
+            @Override
+            public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+                return LocalDate.ofEpochDay(p.getLongValue());
+            }
+        });
+    }
+
+}
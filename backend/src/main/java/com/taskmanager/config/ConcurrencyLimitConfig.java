@@ -0,0 +1,61 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Bounds how many API requests reach the service layer at once. Without a limit, a slow database
+ * lets requests pile up in Tomcat (or, on virtual threads, inside Hikari until connection-timeout)
+ * until memory or the health check gives out.
+ *
+ * <p>{@code taskmanager.concurrency.enabled} is read at startup rather than used as a bean condition,
+ * which AOT processing would fix at build time.
+ */
+@Slf4j
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${taskmanager.concurrency.enabled:true}") boolean enabled,
+            @Value("${taskmanager.concurrency.reads.initial-limit:20}") int readsInitialLimit,
+            @Value("${taskmanager.concurrency.reads.min-limit:2}") int readsMinLimit,
+            @Value("${taskmanager.concurrency.reads.max-limit:200}") int readsMaxLimit,
+            @Value("${taskmanager.concurrency.reads.latency-threshold:250ms}") Duration readsLatencyThreshold,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${taskmanager.concurrency.writes.initial-limit:${spring.datasource.hikari.maximum-pool-size:10}}") int writesInitialLimit,
+            @Value("${taskmanager.concurrency.writes.min-limit:1}") int writesMinLimit,
+            @Value("${taskmanager.concurrency.writes.max-limit:${spring.datasource.hikari.maximum-pool-size:10}}") int writesMaxLimit,
+            @Value("${taskmanager.concurrency.writes.latency-threshold:500ms}") Duration writesLatencyThreshold) {
+        // Every write holds a connection: writes past the pool size would only queue inside Hikari
+        if (writesMaxLimit > poolSize) {
+            log.warn("Capping the write concurrency limit of {} at the connection pool size of {}", writesMaxLimit, poolSize);
+            writesMaxLimit = poolSize;
+        }
+        writesInitialLimit = Math.min(writesInitialLimit, writesMaxLimit);
+        AdaptiveConcurrencyLimit reads = new AdaptiveConcurrencyLimit(
+                "reads", readsInitialLimit, readsMinLimit, readsMaxLimit, readsLatencyThreshold);
+        AdaptiveConcurrencyLimit writes = new AdaptiveConcurrencyLimit(
+                "writes", writesInitialLimit, writesMinLimit, writesMaxLimit, writesLatencyThreshold);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(reads, writes));
+        registration.addUrlPatterns("/api/*");
+        if (enabled) {
+            reads.bindTo(meterRegistry);
+            writes.bindTo(meterRegistry);
+        } else {
+            log.info("API concurrency limits are disabled");
+            registration.setEnabled(false);
+        }
+        return registration;
+    }
+
+}
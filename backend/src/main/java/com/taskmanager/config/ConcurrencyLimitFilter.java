@@ -0,0 +1,128 @@
+package com.taskmanager.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits API requests against separate adaptive limits for reads and writes, so slow writes cannot
+ * starve cheap reads. Requests over the limit are rejected at once with 503 and {@code Retry-After}
+ * rather than queued. The change feed is exempt: its connections are long-lived and idle. A lookup
+ * by ids is a read, even though it is a POST. An async request, such as the export stream, holds its
+ * slot until the async processing completes.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    static final String EVENTS_PATH = "/api/tasks/events";
+    static final String LOOKUP_PATH = "/api/tasks/lookup";
+
+    private final AdaptiveConcurrencyLimit reads;
+    private final AdaptiveConcurrencyLimit writes;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimit reads, AdaptiveConcurrencyLimit writes) {
+        this.reads = reads;
+        this.writes = writes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().equals(EVENTS_PATH);
+    }
+
+    // Async requests are admitted once, on their first dispatch, and hold their slot until complete
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimit limit = isRead(request) ? reads : writes;
+        if (!limit.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            return;
+        }
+        Permit permit = new Permit(limit);
+        boolean async = false;
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            async = request.isAsyncStarted();
+            if (async) {
+                // The response (e.g. the export stream) is written later; release when it completes
+                request.getAsyncContext().addListener(permit);
+            } else {
+                failed = isFailed(response);
+            }
+        } finally {
+            if (!async) {
+                permit.release(failed);
+            }
+        }
+    }
+
+    private static boolean isFailed(ServletResponse response) {
+        return !(response instanceof HttpServletResponse httpResponse)
+                || httpResponse.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method)
+                || request.getRequestURI().equals(LOOKUP_PATH);
+    }
+
+    /** A slot of a limit, released once: on return of the filter chain, or when an async request ends. */
+    private static final class Permit implements AsyncListener {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(AdaptiveConcurrencyLimit limit) {
+            this.limit = limit;
+        }
+
+        void release(boolean failed) {
+            if (released.compareAndSet(false, true)) {
+                limit.release(System.nanoTime() - start, failed);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(isFailed(event.getSuppliedResponse()));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(true);
+        }
+
+        // Listeners are dropped when async processing is restarted
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+    }
+
+}
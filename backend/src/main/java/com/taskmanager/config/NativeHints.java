@@ -0,0 +1,58 @@
+package com.taskmanager.config;
+
+import com.taskmanager.dto.BatchItemResult;
+import com.taskmanager.dto.BatchResult;
+import com.taskmanager.dto.IngestionStatus;
+import com.taskmanager.dto.StatusChange;
+import com.taskmanager.dto.TaskCount;
+import com.taskmanager.dto.TaskDelta;
+import com.taskmanager.dto.TaskLookupResult;
+import com.taskmanager.dto.TaskPage;
+import com.taskmanager.dto.TaskSearchResult;
+import com.taskmanager.dto.TaskStats;
+import com.taskmanager.exception.GlobalExceptionHandler;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.interceptor.TransactionalProxy;
+
+/**
+ * Reflection and proxy hints for the native image. AOT processing derives most hints from the bean
+ * definitions; these cover the types it cannot see through controller signatures or needs to be sure of.
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Jackson: bodies serialized outside typed controller methods (cached listings, ResponseEntity<?>,
+        // the change feed) and the DTOs. Lombok accessors are ordinary compiled methods and covered here.
+        bindingHints.registerReflectionHints(hints.reflection(), Task.class, TaskPage.class, TaskDelta.class,
+                TaskStats.class, TaskSearchResult.class, BatchResult.class, BatchItemResult.class,
+                IngestionStatus.class, StatusChange.class, TaskLookupResult.class);
+
+        // Hibernate and Bean Validation read the entity fields; Hibernate instantiates the entity and the
+        // result of the JPQL constructor expression in TaskRepository
+        hints.reflection().registerType(Task.class, MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        hints.reflection().registerType(TaskCount.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+        // Spring Data implements the repository as a JDK proxy and reads its query methods reflectively
+        hints.proxies().registerJdkProxy(repositoryProxyInterfaces());
+        hints.reflection().registerType(TaskRepository.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // @ExceptionHandler methods are invoked reflectively
+        hints.reflection().registerType(GlobalExceptionHandler.class, MemberCategory.INVOKE_DECLARED_METHODS);
+    }
+
+    static Class<?>[] repositoryProxyInterfaces() {
+        return AopProxyUtils.completeJdkProxyInterfaces(TaskRepository.class, Repository.class, TransactionalProxy.class);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.taskmanager.config;
+
+import com.taskmanager.service.TaskChangeLog;
+import com.taskmanager.service.TaskSearchIndex;
+import com.taskmanager.service.TaskStatistics;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Beans still created at startup with {@code spring.main.lazy-initialization}. The in-memory views
+     * are seeded from the database and then follow committed writes; created lazily by the first write
+     * event, they would count that write twice. The change log has to start polling on its own.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerTaskViews() {
+        return LazyInitializationExcludeFilter.forBeanTypes(TaskStatistics.class, TaskSearchIndex.class, TaskChangeLog.class);
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.taskmanager.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.ConfigurableTomcatWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runs Tomcat request processing on virtual threads when {@code spring.threads.virtual.enabled} is set.
+ *
+ * <p>Spring Boot applies that property through bean conditions, which AOT processing fixes at build
+ * time, so with {@code -Dspring.aot.enabled=true} it would keep the value the jar was built with. This
+ * customizer is always registered and reads the property at startup instead.
+ */
+@Slf4j
+@Configuration
+public class VirtualThreadConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<ConfigurableTomcatWebServerFactory> virtualThreadRequestExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean enabled) {
+        return factory -> {
+            if (!enabled) {
+                return;
+            }
+            log.info("Serving requests on virtual threads");
+            factory.addProtocolHandlerCustomizers(protocolHandler ->
+                    protocolHandler.setExecutor(new VirtualThreadExecutor("tomcat-handler-")));
+        };
+    }
+
+}
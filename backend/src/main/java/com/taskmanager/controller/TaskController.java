@@ -1,14 +1,43 @@
 package com.taskmanager.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.taskmanager.dto.BatchResult;
+import com.taskmanager.dto.IngestionStatus;
+import com.taskmanager.dto.StatusChange;
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.dto.TaskLookupResult;
+import com.taskmanager.dto.TaskPage;
+import com.taskmanager.dto.TaskPatch;
+import com.taskmanager.dto.TaskSearchResult;
+import com.taskmanager.dto.TaskStats;
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.service.TaskEventBroadcaster;
+import com.taskmanager.service.TaskIngestionService;
 import com.taskmanager.service.TaskService;
+import com.taskmanager.service.TaskStatistics;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -16,15 +45,124 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskStatistics taskStatistics;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final TaskIngestionService taskIngestionService;
+    private final TaskListCache taskListCache;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks() {
-        return ResponseEntity.ok(taskService.getAllTasks());
+    public ResponseEntity<?> getAllTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @RequestParam(defaultValue = "false") boolean overdue,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+        TaskFilter filter = new TaskFilter(status, dueFrom, dueTo, overdue);
+        MediaType format = taskListCache.isEnabled() ? TaskListCache.format(request.getHeader(HttpHeaders.ACCEPT)) : null;
+        if (format != null) {
+            TaskListCache.CachedPage page = taskListCache.getPage(filter, cursor, limit, format,
+                    () -> taskService.getTasks(filter, cursor, limit));
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .eTag(page.etag())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .contentType(format);
+            if (page.nextCursor() != null) {
+                response.header(HttpHeaders.LINK, nextLink(request, page.nextCursor()));
+            }
+            return response.body(page.body());
+        }
+
+        TaskPage page = taskService.getTasks(filter, cursor, limit);
+
+        // With an ETag set, a matching If-None-Match is answered with 304 before the body is serialized
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(TaskETags.of(page))
+                .varyBy(HttpHeaders.ACCEPT);
+        if (page.hasNext()) {
+            response.header(HttpHeaders.LINK, nextLink(request, page.nextCursor()));
+        }
+        return response.body(page.tasks());
+    }
+
+    // GET /api/tasks?ids=1,2,3; POST /lookup takes the ids in the body for lists too long for a URL
+    @GetMapping(params = "ids")
+    public ResponseEntity<TaskLookupResult> getTasksById(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(taskService.getTasksById(ids));
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<TaskLookupResult> lookupTasks(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(taskService.getTasksById(ids));
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<Map<String, Long>> countTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(defaultValue = "false") boolean overdue) {
+        return ResponseEntity.ok(Map.of("count", taskService.countTasks(status, overdue)));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchResult> searchTasks(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(taskService.searchTasks(q, page, limit));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStats> getStats() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(taskStatistics.getStats());
+    }
+
+    // EventSource sends the id of the last event it saw when it reconnects
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return taskEventBroadcaster.subscribe(lastEventId);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                taskService.exportTasks(task -> {
+                    try {
+                        generator.writeObject(task);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Task> getTaskById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+        Task task = taskService.getTaskById(id);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(TaskETags.of(task))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(task);
     }
 
     @PostMapping
@@ -36,9 +174,35 @@ public class TaskController {
     @PutMapping("/{id}")
     public ResponseEntity<Task> updateTask(
             @PathVariable Long id,
-            @Valid @RequestBody Task task) {
-        Task updatedTask = taskService.updateTask(id, task);
-        return ResponseEntity.ok(updatedTask);
+            @Valid @RequestBody Task task,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Task updatedTask = taskService.updateTask(id, task, TaskETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(updatedTask))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(updatedTask);
+    }
+
+    // Accepts application/json as well, for clients that do not know the merge patch media type
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Task> patchTask(
+            @PathVariable Long id,
+            @RequestBody ObjectNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Task patchedTask = taskService.patchTask(id, TaskPatch.of(patch, objectMapper), TaskETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(patchedTask))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(patchedTask);
+    }
+
+    @PostMapping("/{id}/status")
+    public ResponseEntity<Task> changeStatus(@PathVariable Long id, @Valid @RequestBody StatusChange change) {
+        Task changedTask = taskService.changeStatus(id, change.status(), change.expectedStatus());
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(changedTask))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(changedTask);
     }
 
     @DeleteMapping("/{id}")
@@ -47,4 +211,44 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResult> createTasks(@RequestBody List<Task> tasks) {
+        return ResponseEntity.ok(taskService.createTasks(tasks));
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<BatchResult> updateTasks(@RequestBody List<Task> tasks) {
+        return ResponseEntity.ok(taskService.updateTasks(tasks));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<BatchResult> deleteTasks(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(taskService.deleteTasks(ids));
+    }
+
+    @PostMapping("/ingest")
+    public ResponseEntity<IngestionStatus> ingestTasks(@RequestBody List<Task> tasks) {
+        IngestionStatus status = taskIngestionService.submit(tasks);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/tasks/ingest/" + status.id()))
+                .body(status);
+    }
+
+    @GetMapping("/ingest/{id}")
+    public ResponseEntity<IngestionStatus> getIngestionStatus(@PathVariable String id) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(taskIngestionService.getStatus(id));
+    }
+
+    // Relative so it stays valid behind the TLS-terminating proxy; clients resolve it against the request URL
+    private static String nextLink(HttpServletRequest request, Long nextCursor) {
+        String uri = UriComponentsBuilder.fromPath(request.getRequestURI())
+                .query(request.getQueryString())
+                .replaceQueryParam("cursor", nextCursor)
+                .build()
+                .toUriString();
+        return "<" + uri + ">; rel=\"next\"";
+    }
+
 }
@@ -0,0 +1,56 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.dto.TaskPage;
+import com.taskmanager.exception.TaskVersionMismatchException;
+import com.taskmanager.model.Task;
+
+/**
+ * Entity tags for task resources. A single task is tagged with its version; a page of tasks with a
+ * hash over the ids and versions it contains, so neither requires serializing the body.
+ *
+ * <p>A tag does not depend on the negotiated format, so tagged responses carry {@code Vary: Accept}
+ * and caches keep the JSON and CBOR representations apart.
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    static String of(Task task) {
+        return task.getVersion() == null ? null : quote(Long.toString(task.getVersion()));
+    }
+
+    static String of(TaskPage page) {
+        long hash = 17;
+        for (Task task : page.tasks()) {
+            hash = 31 * hash + task.getId();
+            hash = 31 * hash + (task.getVersion() == null ? -1 : task.getVersion());
+        }
+        hash = 31 * hash + (page.nextCursor() == null ? 0 : page.nextCursor());
+        return quote(Long.toHexString(hash));
+    }
+
+    /**
+     * Returns the task version an {@code If-Match} header requires, or {@code null} when the header is
+     * absent or {@code *}. A header that cannot match any version fails the precondition.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String etag = ifMatch.trim();
+        if (etag.length() < 2 || !etag.startsWith("\\"") || !etag.endsWith("\\"")) {
+            throw new TaskVersionMismatchException();
+        }
+        try {
+            return Long.parseLong(etag.substring(1, etag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new TaskVersionMismatchException();
+        }
+    }
+
+    private static String quote(String value) {
+        return "\\"" + value + "\\"";
+    }
+
+}
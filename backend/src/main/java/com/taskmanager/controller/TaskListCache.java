@@ -0,0 +1,123 @@
+package com.taskmanager.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.dto.TaskPage;
+import com.taskmanager.event.TaskChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Serialized {@code GET /api/tasks} responses, so repeated reads between writes skip both the query
+ * and serialization.
+ *
+ * <p>Entries are keyed by a write generation that every committed task change increments. The
+ * generation is read before the page is loaded, so a page loaded concurrently with a commit is stored
+ * under the old generation and never served after it.
+ */
+@Component
+class TaskListCache {
+
+    private static final List<MediaType> FORMATS = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR);
+
+    private final boolean enabled;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final AtomicLong generation = new AtomicLong();
+    private final Cache<Key, CachedPage> pages;
+
+    TaskListCache(
+            ObjectMapper objectMapper,
+            MappingJackson2CborHttpMessageConverter cborConverter,
+            MeterRegistry meterRegistry,
+            @Value("${taskmanager.cache.task-lists.enabled:false}") boolean enabled,
+            @Value("${taskmanager.cache.task-lists.max-size:64MB}") DataSize maxSize) {
+        this.enabled = enabled;
+        this.jsonMapper = objectMapper;
+        this.cborMapper = cborConverter.getObjectMapper();
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .<Key, CachedPage>weigher((key, page) -> page.body().length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "taskLists");
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the cached response for the listing, loading and serializing the page on a miss.
+     * Concurrent misses for the same listing load it once.
+     */
+    CachedPage getPage(TaskFilter filter, Long cursor, Integer limit, MediaType format, Supplier<TaskPage> loader) {
+        // Overdue depends on the date as well as on the data
+        LocalDate day = filter.overdue() ? LocalDate.now() : null;
+        Key key = new Key(generation.get(), filter, day, cursor, limit, format);
+        return pages.get(key, k -> serialize(loader.get(), format));
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        generation.incrementAndGet();
+        // Entries of older generations can no longer be hit
+        pages.invalidateAll();
+    }
+
+    /**
+     * Returns the format the response would be negotiated to for the {@code Accept} header, or
+     * {@code null} if it is neither JSON nor CBOR.
+     */
+    static MediaType format(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        // Stable sort, so types of equal quality keep the client's order
+        return accepted.stream()
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .filter(type -> type.getQualityValue() > 0)
+                .flatMap(type -> FORMATS.stream().filter(type::isCompatibleWith).limit(1))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private CachedPage serialize(TaskPage page, MediaType format) {
+        ObjectMapper mapper = MediaType.APPLICATION_CBOR.equals(format) ? cborMapper : jsonMapper;
+        try {
+            return new CachedPage(mapper.writeValueAsBytes(page.tasks()), TaskETags.of(page), page.nextCursor());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    record CachedPage(byte[] body, String etag, Long nextCursor) {
+    }
+
+    private record Key(long generation, TaskFilter filter, LocalDate day, Long cursor, Integer limit,
+                       MediaType format) {
+    }
+
+}
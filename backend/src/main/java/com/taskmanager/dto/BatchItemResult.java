@@ -0,0 +1,32 @@
+package com.taskmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.taskmanager.model.Task;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+/**
+ * Outcome of a single item of a batch request. {@code index} is the position of the item in the
+ * request, {@code status} the HTTP status the item would have received as a single request.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult(int index, Long id, int status, Task task, Map<String, String> errors) {
+
+    public static BatchItemResult success(int index, HttpStatus status, Task task) {
+        return new BatchItemResult(index, task.getId(), status.value(), task, null);
+    }
+
+    public static BatchItemResult deleted(int index, Long id) {
+        return new BatchItemResult(index, id, HttpStatus.NO_CONTENT.value(), null, null);
+    }
+
+    public static BatchItemResult failure(int index, Long id, HttpStatus status, Map<String, String> errors) {
+        return new BatchItemResult(index, id, status.value(), null, errors);
+    }
+
+    public boolean isSuccess() {
+        return status < 400;
+    }
+
+}
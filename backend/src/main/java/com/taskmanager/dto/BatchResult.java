@@ -0,0 +1,15 @@
+package com.taskmanager.dto;
+
+import java.util.List;
+
+/**
+ * Per-item results of a batch request, in request order.
+ */
+public record BatchResult(int succeeded, int failed, List<BatchItemResult> results) {
+
+    public static BatchResult of(List<BatchItemResult> results) {
+        int succeeded = (int) results.stream().filter(BatchItemResult::isSuccess).count();
+        return new BatchResult(succeeded, results.size() - succeeded, results);
+    }
+
+}
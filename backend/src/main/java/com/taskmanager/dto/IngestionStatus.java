@@ -0,0 +1,11 @@
+package com.taskmanager.dto;
+
+import java.util.List;
+
+/**
+ * Progress of an ingestion submission. {@code failures} lists the tasks that could not be stored, with
+ * {@code index} being their position in the submission.
+ */
+public record IngestionStatus(String id, int submitted, int written, int failed, boolean completed,
+                              List<BatchItemResult> failures) {
+}
@@ -0,0 +1,11 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Request to move a task to {@code status}. With {@code expectedStatus}, the change only applies if the
+ * task is currently in that status.
+ */
+public record StatusChange(@NotNull(message = "Status is required") TaskStatus status, TaskStatus expectedStatus) {
+}
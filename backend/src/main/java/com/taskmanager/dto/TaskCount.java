@@ -0,0 +1,11 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Number of tasks sharing a status and due date, one row of a {@code GROUP BY status, due_date}.
+ */
+public record TaskCount(TaskStatus status, LocalDate dueDate, Long count) {
+}
@@ -0,0 +1,18 @@
+package com.taskmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+
+/**
+ * A single task change as pushed to event stream subscribers. {@code task} is the new state and is
+ * absent for deletes.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskDelta(TaskChangedEvent.Type type, Long id, Task task) {
+
+    public static TaskDelta of(TaskChangedEvent event) {
+        return new TaskDelta(event.type(), event.id(), event.current());
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Optional restrictions applied when listing tasks. A {@code null} component means "no restriction".
+ * The due date bounds are inclusive. {@code overdue} restricts to open tasks due before today.
+ */
+public record TaskFilter(TaskStatus status, LocalDate dueFrom, LocalDate dueTo, boolean overdue) {
+
+    public TaskFilter(TaskStatus status, LocalDate dueFrom, LocalDate dueTo) {
+        this(status, dueFrom, dueTo, false);
+    }
+
+    public static TaskFilter none() {
+        return new TaskFilter(null, null, null);
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.Task;
+
+import java.util.List;
+
+/**
+ * The tasks found for a list of ids, in request order, and the requested ids without a task.
+ */
+public record TaskLookupResult(List<Task> tasks, List<Long> missing) {
+}
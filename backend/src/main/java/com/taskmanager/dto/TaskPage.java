@@ -0,0 +1,17 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.Task;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated task listing, ordered by id.
+ * {@code nextCursor} is the id to continue after, or {@code null} on the last page.
+ */
+public record TaskPage(List<Task> tasks, Long nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.taskmanager.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.taskmanager.exception.InvalidPatchException;
+import com.taskmanager.model.Task;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A JSON Merge Patch (RFC 7396) of a task: the fields present in the patch document and their new
+ * values. Absent fields stay unchanged, fields set to {@code null} are cleared.
+ *
+ * @param fields names of the fields to change
+ * @param values a task holding the new values of {@code fields}; its other fields are meaningless
+ */
+public record TaskPatch(Set<String> fields, Task values) {
+
+    public static final Set<String> PATCHABLE_FIELDS = Set.of("title", "description", "status", "dueDate");
+
+    public static TaskPatch of(ObjectNode patch, ObjectMapper objectMapper) {
+        Set<String> fields = new HashSet<>();
+        Map<String, String> errors = new HashMap<>();
+        patch.fieldNames().forEachRemaining(field -> {
+            if (PATCHABLE_FIELDS.contains(field)) {
+                fields.add(field);
+            } else {
+                errors.put(field, "Field cannot be patched");
+            }
+        });
+        if (!errors.isEmpty()) {
+            throw new InvalidPatchException(errors);
+        }
+
+        try {
+            return new TaskPatch(fields, objectMapper.treeToValue(patch, Task.class));
+        } catch (JsonMappingException e) {
+            String field = e.getPath().isEmpty() ? "patch" : e.getPath().getFirst().getFieldName();
+            throw new InvalidPatchException(Map.of(field, "Invalid value"));
+        } catch (JsonProcessingException e) {
+            throw new InvalidPatchException(Map.of("patch", "Invalid patch document"));
+        }
+    }
+
+    public boolean has(String field) {
+        return fields.contains(field);
+    }
+
+}
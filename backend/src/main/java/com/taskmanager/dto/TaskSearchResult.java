@@ -0,0 +1,11 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.Task;
+
+import java.util.List;
+
+/**
+ * One page of search hits, best match first, and the number of matching tasks over all pages.
+ */
+public record TaskSearchResult(List<Task> tasks, int total) {
+}
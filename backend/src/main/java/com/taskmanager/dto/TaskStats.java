@@ -0,0 +1,11 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.TaskStatus;
+
+import java.util.Map;
+
+/**
+ * Task counts per status, in total and of open tasks due before today.
+ */
+public record TaskStats(Map<TaskStatus, Long> byStatus, long total, long overdue) {
+}
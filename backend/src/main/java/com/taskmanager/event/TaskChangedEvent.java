@@ -0,0 +1,38 @@
+package com.taskmanager.event;
+
+import com.taskmanager.model.Task;
+
+/**
+ * Published by the service for every task write, inside the writing transaction. Listeners should use
+ * {@code @TransactionalEventListener} so they only see committed changes.
+ *
+ * @param previous copy of the task before the write, {@code null} for creates
+ * @param current  the written task as committed, {@code null} for deletes; must not be modified
+ * @param remote   whether the write was made by another instance (clustered mode); such events only
+ *                 carry the status and due date of {@code previous}
+ */
+public record TaskChangedEvent(Type type, Long id, Task previous, Task current, boolean remote) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public TaskChangedEvent(Type type, Long id, Task previous, Task current) {
+        this(type, id, previous, current, false);
+    }
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(Type.CREATED, task.getId(), null, task);
+    }
+
+    public static TaskChangedEvent updated(Task previous, Task current) {
+        return new TaskChangedEvent(Type.UPDATED, current.getId(), previous, current);
+    }
+
+    public static TaskChangedEvent deleted(Task task) {
+        return new TaskChangedEvent(Type.DELETED, task.getId(), task, null);
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.taskmanager.exception;
+
+public class BatchSizeExceededException extends RuntimeException {
+    public BatchSizeExceededException(int maxSize) {
+        super("Batch must not contain more than " + maxSize + " items");
+    }
+}
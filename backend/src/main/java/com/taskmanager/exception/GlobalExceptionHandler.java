@@ -1,38 +1,156 @@
 package com.taskmanager.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.HashMap;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Maps exceptions to RFC 7807 problem responses ({@code application/problem+json}). Besides the
+ * standard members, a body carries {@code error} (the message) or {@code errors} (per field).
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // The statuses returned by the handlers below are registered up front, so counting an error is a
+    // map lookup and an increment; any other status is registered on first use
+    private final Map<HttpStatus, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    // Serialized bodies of the errors with a plain message, by status and message. The messages come
+    // from a small fixed set, so after warm-up an error response is written without serializing.
+    private final Map<HttpStatus, Map<String, byte[]>> messageBodies = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        List<HttpStatus> statuses = List.of(HttpStatus.BAD_REQUEST, HttpStatus.NOT_FOUND,
+                HttpStatus.CONFLICT, HttpStatus.PRECONDITION_FAILED, HttpStatus.TOO_MANY_REQUESTS);
+        for (HttpStatus status : statuses) {
+            errorCounter(status);
+            messageBodies(status);
+        }
+    }
+
     @ExceptionHandler(TaskNotFoundException.class)
-    public ResponseEntity<Map<String, String>> handleTaskNotFoundException(TaskNotFoundException ex) {
-        Map<String, String> error = new HashMap<>();
-        error.put("error", ex.getMessage());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    public ResponseEntity<byte[]> handleTaskNotFoundException(TaskNotFoundException ex) {
+        return error(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    @ExceptionHandler(IngestionNotFoundException.class)
+    public ResponseEntity<byte[]> handleIngestionNotFoundException(IngestionNotFoundException ex) {
+        return error(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    @ExceptionHandler(IngestionQueueFullException.class)
+    public ResponseEntity<byte[]> handleIngestionQueueFullException(IngestionQueueFullException ex) {
+        errorCounter(HttpStatus.TOO_MANY_REQUESTS).increment();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(messageBody(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage()));
+    }
+
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    public ResponseEntity<byte[]> handleTaskVersionMismatchException(TaskVersionMismatchException ex) {
+        return error(HttpStatus.PRECONDITION_FAILED, ex.getMessage());
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<byte[]> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        return error(HttpStatus.CONFLICT, "Task was modified concurrently");
+    }
+
+    @ExceptionHandler(TaskStatusConflictException.class)
+    public ResponseEntity<byte[]> handleTaskStatusConflictException(TaskStatusConflictException ex) {
+        return error(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
+    @ExceptionHandler(BatchSizeExceededException.class)
+    public ResponseEntity<byte[]> handleBatchSizeExceededException(BatchSizeExceededException ex) {
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidPatchException(InvalidPatchException ex) {
+        return fieldErrors(ex.getMessage(), ex.getErrors());
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
-        Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach((error) -> {
-            String fieldName = ((FieldError) error).getField();
-            String errorMessage = error.getDefaultMessage();
-            errors.put(fieldName, errorMessage);
-        });
-
-        Map<String, Object> response = new HashMap<>();
-        response.put("errors", errors);
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    public ResponseEntity<ProblemDetail> handleValidationExceptions(MethodArgumentNotValidException ex) {
+        List<FieldError> fieldErrors = ex.getBindingResult().getFieldErrors();
+        Map<String, String> errors = new LinkedHashMap<>(fieldErrors.size() * 2);
+        for (FieldError error : fieldErrors) {
+            errors.put(error.getField(), error.getDefaultMessage());
+        }
+        return fieldErrors("Validation failed", errors);
+    }
+
+    ResponseEntity<byte[]> error(HttpStatus status, String message) {
+        errorCounter(status).increment();
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(messageBody(status, message));
+    }
+
+    private byte[] messageBody(HttpStatus status, String message) {
+        Map<String, byte[]> bodies = messageBodies(status);
+        byte[] body = bodies.get(message);
+        if (body == null) {
+            ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, message);
+            problem.setProperty("error", message);
+            body = bodies.computeIfAbsent(message, m -> serialize(problem));
+        }
+        return body;
+    }
+
+    private ResponseEntity<ProblemDetail> fieldErrors(String detail, Map<String, String> errors) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, detail);
+        problem.setProperty("errors", errors);
+        errorCounter(HttpStatus.BAD_REQUEST).increment();
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_PROBLEM_JSON).body(problem);
+    }
+
+    private Counter errorCounter(HttpStatus status) {
+        Counter counter = errorCounters.get(status);
+        if (counter == null) {
+            counter = errorCounters.computeIfAbsent(status, s -> Counter.builder("taskmanager.errors")
+                    .description("Error responses returned by the exception handler")
+                    .tag("status", Integer.toString(s.value()))
+                    .register(meterRegistry));
+        }
+        return counter;
+    }
+
+    private Map<String, byte[]> messageBodies(HttpStatus status) {
+        Map<String, byte[]> bodies = messageBodies.get(status);
+        return bodies != null ? bodies : messageBodies.computeIfAbsent(status, s -> new ConcurrentHashMap<>());
+    }
+
+    private byte[] serialize(ProblemDetail problem) {
+        try {
+            return objectMapper.writeValueAsBytes(problem);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
 }
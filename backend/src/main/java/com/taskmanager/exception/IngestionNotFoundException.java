@@ -0,0 +1,8 @@
+package com.taskmanager.exception;
+
+public class IngestionNotFoundException extends RuntimeException {
+    public IngestionNotFoundException() {
+        // Expected for expired ids; no stack trace needed
+        super("Ingestion not found", null, false, false);
+    }
+}
@@ -0,0 +1,7 @@
+package com.taskmanager.exception;
+
+public class IngestionQueueFullException extends RuntimeException {
+    public IngestionQueueFullException() {
+        super("Ingestion queue is full, retry later");
+    }
+}
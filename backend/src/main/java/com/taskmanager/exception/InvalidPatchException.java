@@ -0,0 +1,17 @@
+package com.taskmanager.exception;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+public class InvalidPatchException extends RuntimeException {
+
+    private final Map<String, String> errors;
+
+    public InvalidPatchException(Map<String, String> errors) {
+        super("Invalid patch");
+        this.errors = errors;
+    }
+
+}
@@ -1,7 +1,14 @@
 package com.taskmanager.exception;
 
+/**
+ * Signals an unknown task id. Not-found is an expected outcome under scanning or stale clients, so
+ * no stack trace is captured; lookups throw the shared {@link #INSTANCE}.
+ */
 public class TaskNotFoundException extends RuntimeException {
-    public TaskNotFoundException(Long id) {
-        super("Task not found");
+
+    public static final TaskNotFoundException INSTANCE = new TaskNotFoundException();
+
+    private TaskNotFoundException() {
+        super("Task not found", null, false, false);
     }
 }
@@ -0,0 +1,9 @@
+package com.taskmanager.exception;
+
+import com.taskmanager.model.TaskStatus;
+
+public class TaskStatusConflictException extends RuntimeException {
+    public TaskStatusConflictException(TaskStatus expected) {
+        super("Task is not in status " + expected);
+    }
+}
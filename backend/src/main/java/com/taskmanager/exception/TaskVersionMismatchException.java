@@ -0,0 +1,7 @@
+package com.taskmanager.exception;
+
+public class TaskVersionMismatchException extends RuntimeException {
+    public TaskVersionMismatchException() {
+        super("Task has been modified");
+    }
+}
@@ -7,18 +7,23 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 
+// Only changed columns are written, so a status change does not rewrite title and description
 @Entity
-@Table(name = "tasks")
+@DynamicUpdate
+@Table(name = "tasks", indexes = @Index(name = "idx_tasks_status_due_date", columnList = "status, due_date"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
+    // Pooled sequence instead of IDENTITY so Hibernate can assign ids up front and batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -38,4 +43,8 @@ public class Task {
     @Column(name = "due_date")
     private LocalDate dueDate;
 
+    // Incremented on every update; backs the ETag of the task and optimistic locking
+    @Version
+    private Long version;
+
 }
@@ -1,7 +1,13 @@
 package com.taskmanager.model;
 
+import java.util.Set;
+
+// Ordinals are part of the CBOR wire format: add new statuses at the end
 public enum TaskStatus {
     TODO,
     IN_PROGRESS,
-    DONE
+    DONE;
+
+    /** Statuses of tasks that still need work, i.e. the ones that can be overdue. */
+    public static final Set<TaskStatus> OPEN = Set.of(TODO, IN_PROGRESS);
 }
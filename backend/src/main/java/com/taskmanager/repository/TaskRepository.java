@@ -1,9 +1,68 @@
 package com.taskmanager.repository;
 
+import com.taskmanager.dto.TaskCount;
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+
+    /**
+     * Streams every task ordered by id over a forward-only cursor. Must be consumed inside a
+     * transaction and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t ORDER BY t.id")
+    Stream<Task> streamAllOrderedById();
+
+    // Both counts are answered from the (status, due_date) index without touching the table rows
+
+    long countByStatus(TaskStatus status);
+
+    long countByStatusInAndDueDateBefore(Collection<TaskStatus> statuses, LocalDate date);
+
+    /**
+     * Sets the status of the task if it is still at {@code version}, bumping the version like an
+     * entity update would. Returns the number of updated rows, 0 if the task is gone or was modified.
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1 WHERE t.id = :id AND t.version = :version")
+    int updateStatus(@Param("id") Long id, @Param("version") Long version, @Param("status") TaskStatus status);
+
+    /**
+     * Reads the tasks with the given ids and locks their rows until the transaction ends, so a
+     * concurrent delete or update of the same rows waits for it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids")
+    List<Task> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes the tasks with the given ids in one statement. Returns the number of deleted rows.
+     */
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.taskmanager.dto.TaskCount(t.status, t.dueDate, COUNT(t)) FROM Task t GROUP BY t.status, t.dueDate")
+    List<TaskCount> countByStatusAndDueDate();
+
 }
@@ -0,0 +1,17 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.model.Task;
+
+import java.util.List;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Returns at most {@code limit} tasks with an id greater than {@code afterId} (all tasks when
+     * {@code null}) matching the filter, ordered by id. Only the restrictions actually present in the
+     * filter end up in the SQL, so the database can use the primary key range and any matching index.
+     */
+    List<Task> findPage(TaskFilter filter, Long afterId, int limit);
+
+}
@@ -0,0 +1,56 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Task> findPage(TaskFilter filter, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(task.<Long>get("id"), afterId));
+        }
+        if (filter.status() != null) {
+            predicates.add(cb.equal(task.get("status"), filter.status()));
+        }
+        if (filter.dueFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(task.<LocalDate>get("dueDate"), filter.dueFrom()));
+        }
+        if (filter.dueTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(task.<LocalDate>get("dueDate"), filter.dueTo()));
+        }
+        if (filter.overdue()) {
+            // IN rather than <> DONE so the (status, due_date) index can be used for both open statuses
+            predicates.add(task.get("status").in(TaskStatus.OPEN));
+            predicates.add(cb.lessThan(task.<LocalDate>get("dueDate"), LocalDate.now()));
+        }
+
+        query.select(task)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(task.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+}
@@ -0,0 +1,292 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.CacheConfig;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the in-process state of several instances sharing one database coherent (clustered mode).
+ *
+ * <p>Every local write is appended to the {@code task_changes} table in the writing transaction. Each
+ * instance polls the table and replays the changes made by the others: their tasks are evicted from
+ * the task cache and a remote {@link TaskChangedEvent} is published after the polling transaction
+ * commits, so statistics, search index, list cache and change feed update as for local writes.
+ */
+@Slf4j
+@Component
+public class TaskChangeLog {
+
+    private static final int POLL_BATCH_SIZE = 1000;
+
+    private static final String INSERT = """
+            INSERT INTO task_changes (task_id, change_type, origin, changed_at, version, title, description,
+                                      status, due_date, previous_status, previous_due_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String SELECT_AFTER = """
+            SELECT id, task_id, change_type, origin, version, title, description, status, due_date,
+                   previous_status, previous_due_date
+            FROM task_changes WHERE id > ? ORDER BY id LIMIT ?""";
+
+    // A runtime switch rather than a bean condition, which AOT processing would fix at build time
+    private final boolean enabled;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate snapshotTemplate;
+    private final TaskStatistics statistics;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache tasksCache;
+    private final Duration pollInterval;
+    private final long gapTimeoutNanos;
+    private final Duration retention;
+
+    // Identifies the changes written by this instance
+    private final String origin = UUID.randomUUID().toString();
+
+    // Change ids are assigned on insert but become visible on commit, so a lower id can show up after
+    // a higher one. All ids up to the cursor are handled; applied holds the ones above it. The cursor
+    // waits at a missing id until it appears or gap-timeout passes (a rolled-back insert never appears).
+    // Only touched by the poller thread.
+    private long cursor;
+    private final NavigableSet<Long> applied = new TreeSet<>();
+    private long gapSince;
+
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("task-changes").daemon().factory());
+
+    public TaskChangeLog(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            EntityManager entityManager,
+            ApplicationEventPublisher eventPublisher,
+            CacheManager cacheManager,
+            TaskStatistics statistics,
+            @Value("${taskmanager.cluster.enabled:false}") boolean enabled,
+            @Value("${taskmanager.cluster.poll-interval:500ms}") Duration pollInterval,
+            @Value("${taskmanager.cluster.gap-timeout:10s}") Duration gapTimeout,
+            @Value("${taskmanager.cluster.retention:1h}") Duration retention) {
+        this.enabled = enabled;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTemplate.setReadOnly(true);
+        this.statistics = statistics;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.tasksCache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        this.pollInterval = pollInterval;
+        this.gapTimeoutNanos = gapTimeout.toNanos();
+        this.retention = retention;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        // The statistics count every change in the snapshot exactly once, so they are seeded from the
+        // same snapshot the cursor is taken from. Changes older than gap-timeout are taken as handled,
+        // as the poller would; newer ones in the snapshot are marked applied, and those not visible yet
+        // are replayed once they commit.
+        snapshotTemplate.executeWithoutResult(status -> {
+            Timestamp settled = Timestamp.from(Instant.now().minusNanos(gapTimeoutNanos));
+            cursor = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(id), 0) FROM task_changes WHERE changed_at < ?", Long.class, settled);
+            applied.addAll(jdbcTemplate.queryForList(
+                    "SELECT id FROM task_changes WHERE id > ?", Long.class, cursor));
+            statistics.seed();
+        });
+        advanceCursor();
+        poller.scheduleWithFixedDelay(this::pollSafely,
+                pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        poller.scheduleWithFixedDelay(this::purgeSafely, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    void stop() {
+        poller.shutdownNow();
+    }
+
+    /**
+     * Collects the local changes of the current transaction; they are written in one batch right
+     * before it commits.
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled || event.remote()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(List.of(event));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<TaskChangedEvent> pending = (List<TaskChangedEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<TaskChangedEvent> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    // Versions of updated entities are only incremented on flush
+                    entityManager.flush();
+                    insert(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(TaskChangeLog.this);
+                }
+            });
+            pending = changes;
+        }
+        pending.add(event);
+    }
+
+    private void insert(List<TaskChangedEvent> events) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT, events, events.size(), (ps, event) -> {
+            Task current = event.current();
+            Task previous = event.previous();
+            ps.setLong(1, event.id());
+            ps.setString(2, event.type().name());
+            ps.setString(3, origin);
+            ps.setTimestamp(4, now);
+            if (current == null) {
+                ps.setNull(5, Types.BIGINT);
+            } else {
+                ps.setLong(5, current.getVersion());
+            }
+            ps.setString(6, current == null ? null : current.getTitle());
+            ps.setString(7, current == null ? null : current.getDescription());
+            ps.setString(8, current == null ? null : current.getStatus().name());
+            ps.setDate(9, current == null ? null : toSqlDate(current.getDueDate()));
+            ps.setString(10, previous == null ? null : previous.getStatus().name());
+            ps.setDate(11, previous == null ? null : toSqlDate(previous.getDueDate()));
+        });
+    }
+
+    // Applies the changes other instances committed since the last poll; returns the number of rows read
+    private int poll() {
+        List<Change> changes = transactionTemplate.execute(status -> {
+            List<Change> read = jdbcTemplate.query(SELECT_AFTER, CHANGE_MAPPER, cursor, POLL_BATCH_SIZE);
+            for (Change change : read) {
+                if (applied.add(change.id()) && !origin.equals(change.origin())) {
+                    tasksCache.evict(change.event().id());
+                    // Delivered to transactional listeners once this transaction commits
+                    eventPublisher.publishEvent(change.event());
+                }
+            }
+            return read;
+        });
+        advanceCursor();
+        return changes == null ? 0 : changes.size();
+    }
+
+    private void advanceCursor() {
+        while (!applied.isEmpty()) {
+            if (applied.remove(cursor + 1)) {
+                cursor++;
+                gapSince = 0;
+                continue;
+            }
+            long now = System.nanoTime();
+            if (gapSince == 0) {
+                gapSince = now;
+                return;
+            }
+            if (now - gapSince < gapTimeoutNanos) {
+                return;
+            }
+            // Give up on the missing ids before the next applied one
+            cursor = applied.first() - 1;
+            gapSince = 0;
+        }
+    }
+
+    private void pollSafely() {
+        try {
+            while (poll() == POLL_BATCH_SIZE) {
+                // Catching up after a burst of writes
+            }
+        } catch (RuntimeException e) {
+            // An exception would cancel the schedule; the next run picks up where this one failed
+            log.warn("Polling the task change log failed", e);
+        }
+    }
+
+    private void purgeSafely() {
+        try {
+            jdbcTemplate.update("DELETE FROM task_changes WHERE changed_at < ?",
+                    Timestamp.from(Instant.now().minus(retention)));
+        } catch (RuntimeException e) {
+            log.warn("Purging the task change log failed", e);
+        }
+    }
+
+    private static Date toSqlDate(LocalDate date) {
+        return date == null ? null : Date.valueOf(date);
+    }
+
+    private static final RowMapper<Change> CHANGE_MAPPER = (rs, rowNum) -> {
+        long taskId = rs.getLong("task_id");
+        TaskChangedEvent.Type type = TaskChangedEvent.Type.valueOf(rs.getString("change_type"));
+
+        Task current = null;
+        if (type != TaskChangedEvent.Type.DELETED) {
+            Date dueDate = rs.getDate("due_date");
+            current = new Task(taskId, rs.getString("title"), rs.getString("description"),
+                    TaskStatus.valueOf(rs.getString("status")), dueDate == null ? null : dueDate.toLocalDate(),
+                    rs.getLong("version"));
+        }
+        Task previous = null;
+        String previousStatus = rs.getString("previous_status");
+        if (previousStatus != null) {
+            Date previousDueDate = rs.getDate("previous_due_date");
+            previous = new Task();
+            previous.setId(taskId);
+            previous.setStatus(TaskStatus.valueOf(previousStatus));
+            previous.setDueDate(previousDueDate == null ? null : previousDueDate.toLocalDate());
+        }
+        return new Change(rs.getLong("id"), rs.getString("origin"),
+                new TaskChangedEvent(type, taskId, previous, current, true));
+    };
+
+    private record Change(long id, String origin, TaskChangedEvent event) {
+    }
+
+}
@@ -0,0 +1,274 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.dto.TaskDelta;
+import com.taskmanager.event.TaskChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Pushes committed task changes to Server-Sent Events subscribers.
+ *
+ * <p>Subscribers are async requests, so an idle connection holds no thread. A single dispatcher thread
+ * hands events, in order, to a bounded queue per subscriber; it is also the only thread touching the
+ * subscriber set. Each queue is written out by a virtual thread of its own while it is non-empty, so a
+ * client that stops reading only stalls itself. A subscriber more than {@code max-pending} events behind
+ * is dropped; it reconnects and resumes like any other client.
+ *
+ * <p>The last {@code replay-size} events are kept so a reconnecting client can resume from its
+ * {@code Last-Event-ID}; clients that are too far behind get a {@value #RESET_EVENT} event and must reload
+ * the task list.
+ *
+ * <p>Event ids start from the startup time, so ids issued by another instance or before a restart are
+ * unknown here and lead to a reset instead of a wrong replay.
+ */
+@Component
+public class TaskEventBroadcaster {
+
+    public static final String TASK_EVENT = "task";
+    public static final String RESET_EVENT = "reset";
+
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int maxPending;
+
+    // Ring buffer of the most recent events; guarded by this
+    private final ReplayEntry[] replay;
+    private final long oldestEventId;
+    private long lastEventId;
+
+    private final ScheduledExecutorService sender = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("task-events").daemon().factory());
+    private final ExecutorService writers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("task-events-writer-", 0).factory());
+    private final Set<Subscriber> subscribers = new LinkedHashSet<>();
+
+    @Autowired
+    public TaskEventBroadcaster(
+            ObjectMapper objectMapper,
+            @Value("${taskmanager.events.replay-size:1000}") int replaySize,
+            @Value("${taskmanager.events.timeout:30m}") Duration timeout,
+            @Value("${taskmanager.events.heartbeat-interval:30s}") Duration heartbeatInterval,
+            @Value("${taskmanager.events.max-pending:256}") int maxPending) {
+        this(objectMapper, replaySize, timeout, heartbeatInterval, maxPending, System.currentTimeMillis() * 1000);
+    }
+
+    TaskEventBroadcaster(ObjectMapper objectMapper, int replaySize, Duration timeout, Duration heartbeatInterval,
+                         int maxPending, long firstEventId) {
+        this.objectMapper = objectMapper;
+        this.maxPending = maxPending;
+        this.lastEventId = firstEventId - 1;
+        this.oldestEventId = firstEventId;
+        this.timeoutMillis = timeout.toMillis();
+        this.replay = new ReplayEntry[replaySize];
+        // Regular comments keep proxies from closing idle streams and reveal dead connections
+        sender.scheduleWithFixedDelay(() -> sendToAll(() -> SseEmitter.event().comment(HEARTBEAT)),
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a stream of task changes. With a {@code lastEventId} still in the replay buffer, the missed
+     * events are sent first; otherwise the stream starts with a {@value #RESET_EVENT} event.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        return subscribe(new SseEmitter(timeoutMillis), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> sender.execute(() -> subscribers.remove(subscriber)));
+        emitter.onTimeout(emitter::complete);
+
+        // Queued under the lock so no event can be both replayed and broadcast, or neither
+        synchronized (this) {
+            List<ReplayEntry> missed = lastEventId == null ? null : eventsAfter(lastEventId);
+            long resetId = this.lastEventId;
+            sender.execute(() -> {
+                if (missed == null) {
+                    subscriber.replay(List.of(
+                            () -> SseEmitter.event().id(Long.toString(resetId)).name(RESET_EVENT).data("{}")));
+                } else {
+                    List<Supplier<SseEmitter.SseEventBuilder>> events = new ArrayList<>(missed.size());
+                    missed.forEach(entry -> events.add(entry::toEvent));
+                    subscriber.replay(events);
+                }
+                subscribers.add(subscriber);
+            });
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        // Serialized once here instead of once per subscriber
+        String data = serialize(TaskDelta.of(event));
+        synchronized (this) {
+            ReplayEntry entry = new ReplayEntry(++lastEventId, data);
+            replay[(int) (entry.id() % replay.length)] = entry;
+            sender.execute(() -> sendToAll(entry::toEvent));
+        }
+    }
+
+    /**
+     * Returns the buffered events after {@code eventId} in order, or {@code null} when some of them are
+     * no longer buffered or the id is unknown (e.g. issued before a restart).
+     */
+    synchronized List<ReplayEntry> eventsAfter(long eventId) {
+        long oldestBuffered = Math.max(oldestEventId, lastEventId - replay.length + 1);
+        if (eventId > lastEventId || eventId < oldestBuffered - 1) {
+            return null;
+        }
+        List<ReplayEntry> missed = new ArrayList<>((int) (lastEventId - eventId));
+        for (long id = eventId + 1; id <= lastEventId; id++) {
+            missed.add(replay[(int) (id % replay.length)]);
+        }
+        return missed;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+        writers.shutdown();
+    }
+
+    private void sendToAll(Supplier<SseEmitter.SseEventBuilder> event) {
+        subscribers.removeIf(subscriber -> !subscriber.offer(event));
+    }
+
+    private static boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private String serialize(TaskDelta delta) {
+        try {
+            return objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A subscriber's pending events. While there are any, one writer task sends them in order; it ends
+     * when the queue runs empty and the next event starts a new one.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+
+        // Event builders are single-use, hence suppliers creating one per subscriber; guarded by this
+        private final Deque<Supplier<SseEmitter.SseEventBuilder>> pending = new ArrayDeque<>();
+        private boolean writing;
+        private boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // The replayed events precede any live event and do not count against the bound
+        void replay(List<Supplier<SseEmitter.SseEventBuilder>> events) {
+            synchronized (this) {
+                pending.addAll(events);
+                writing = true;
+            }
+            writers.execute(this::write);
+        }
+
+        /**
+         * Queues a live event; returns {@code false} if the subscriber is closed, or too far behind and
+         * closed now.
+         */
+        boolean offer(Supplier<SseEmitter.SseEventBuilder> event) {
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                if (pending.size() < maxPending) {
+                    pending.add(event);
+                    if (writing) {
+                        return true;
+                    }
+                    writing = true;
+                    writers.execute(this::write);
+                    return true;
+                }
+            }
+            close();
+            return false;
+        }
+
+        void close() {
+            synchronized (this) {
+                closed = true;
+                pending.clear();
+                if (writing) {
+                    // Completed by the writer once its current send returns; completing here would wait for it
+                    return;
+                }
+            }
+            emitter.complete();
+        }
+
+        private void write() {
+            while (true) {
+                Supplier<SseEmitter.SseEventBuilder> event;
+                synchronized (this) {
+                    event = pending.poll();
+                    if (event == null) {
+                        writing = false;
+                        if (closed) {
+                            break;
+                        }
+                        return;
+                    }
+                }
+                if (!send(emitter, event.get())) {
+                    synchronized (this) {
+                        closed = true;
+                        pending.clear();
+                    }
+                }
+            }
+            emitter.complete();
+        }
+
+    }
+
+    record ReplayEntry(long id, String data) {
+
+        SseEmitter.SseEventBuilder toEvent() {
+            return SseEmitter.event().id(Long.toString(id)).name(TASK_EVENT).data(data);
+        }
+
+    }
+
+}
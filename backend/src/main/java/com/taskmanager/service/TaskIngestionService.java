@@ -0,0 +1,220 @@
+package com.taskmanager.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.dto.BatchItemResult;
+import com.taskmanager.dto.BatchResult;
+import com.taskmanager.dto.IngestionStatus;
+import com.taskmanager.exception.BatchSizeExceededException;
+import com.taskmanager.exception.IngestionNotFoundException;
+import com.taskmanager.exception.IngestionQueueFullException;
+import com.taskmanager.model.Task;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind path for bulk imports. Submitted tasks are queued in memory and a background flusher
+ * stores them in batches of up to {@code batch-size} tasks, one transaction per batch, waiting at most
+ * {@code max-delay} for a batch to fill up. A full queue rejects submissions instead of growing.
+ *
+ * <p>Queued tasks are lost if the process dies before they are flushed; on a regular shutdown the
+ * queue is drained first.
+ */
+@Component
+public class TaskIngestionService {
+
+    private static final long IDLE_WAIT_MILLIS = 1000;
+
+    private final TaskService taskService;
+    private final int batchSize;
+    private final long maxDelayNanos;
+
+    // Free queue slots; a submission takes all its slots or none
+    private final Semaphore capacity;
+    private final BlockingQueue<PendingTask> queue = new LinkedBlockingQueue<>();
+    private final Cache<String, Submission> submissions;
+
+    private final Thread flusher = Thread.ofPlatform().name("task-ingestion").daemon().unstarted(this::run);
+    private volatile boolean running = true;
+
+    public TaskIngestionService(
+            TaskService taskService,
+            MeterRegistry meterRegistry,
+            @Value("${taskmanager.ingest.queue-capacity:10000}") int queueCapacity,
+            @Value("${taskmanager.ingest.batch-size:500}") int batchSize,
+            @Value("${taskmanager.ingest.max-delay:200ms}") Duration maxDelay,
+            @Value("${taskmanager.ingest.status-retention:1h}") Duration statusRetention) {
+        this.taskService = taskService;
+        this.batchSize = Math.min(batchSize, TaskService.MAX_BATCH_SIZE);
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.capacity = new Semaphore(queueCapacity);
+        this.submissions = Caffeine.newBuilder()
+                .expireAfterWrite(statusRetention)
+                .build();
+
+        Gauge.builder("taskmanager.ingest.queue", queue, BlockingQueue::size)
+                .description("Tasks waiting to be written by the ingestion flusher")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        flusher.start();
+    }
+
+    // The flusher drains the queue before it exits
+    @PreDestroy
+    void stop() {
+        running = false;
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queues the tasks for writing and returns the initial status of the submission.
+     *
+     * @throws IngestionQueueFullException if the queue has no room for all of them
+     */
+    public IngestionStatus submit(List<Task> tasks) {
+        if (tasks.size() > TaskService.MAX_BATCH_SIZE) {
+            throw new BatchSizeExceededException(TaskService.MAX_BATCH_SIZE);
+        }
+        if (!capacity.tryAcquire(tasks.size())) {
+            throw new IngestionQueueFullException();
+        }
+
+        Submission submission = new Submission(UUID.randomUUID().toString(), tasks.size());
+        submissions.put(submission.id, submission);
+        for (int i = 0; i < tasks.size(); i++) {
+            queue.add(new PendingTask(submission, i, tasks.get(i)));
+        }
+        return submission.status();
+    }
+
+    public IngestionStatus getStatus(String id) {
+        Submission submission = submissions.getIfPresent(id);
+        if (submission == null) {
+            throw new IngestionNotFoundException();
+        }
+        return submission.status();
+    }
+
+    private void run() {
+        List<PendingTask> batch = new ArrayList<>(batchSize);
+        try {
+            while (running) {
+                collect(batch);
+                if (!batch.isEmpty()) {
+                    write(batch);
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.addAll(batch);
+        }
+        flush();
+    }
+
+    // Fills the batch until it is full or max-delay has passed since its first task arrived
+    private void collect(List<PendingTask> batch) throws InterruptedException {
+        PendingTask first = queue.poll(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() == batchSize || remaining <= 0) {
+                return;
+            }
+            PendingTask next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    void write(List<PendingTask> batch) {
+        try {
+            BatchResult result = taskService.createTasks(batch.stream().map(PendingTask::task).toList());
+            for (BatchItemResult item : result.results()) {
+                PendingTask pending = batch.get(item.index());
+                if (item.isSuccess()) {
+                    pending.submission().written.incrementAndGet();
+                } else {
+                    pending.submission().fail(pending.index(), HttpStatus.valueOf(item.status()), item.errors());
+                }
+            }
+        } catch (RuntimeException e) {
+            // The whole batch was rolled back
+            batch.forEach(pending -> pending.submission()
+                    .fail(pending.index(), HttpStatus.INTERNAL_SERVER_ERROR, Map.of("task", "Task could not be stored")));
+        } finally {
+            capacity.release(batch.size());
+        }
+    }
+
+    // Writes everything queued so far on the calling thread
+    void flush() {
+        List<PendingTask> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    record PendingTask(Submission submission, int index, Task task) {
+    }
+
+    static final class Submission {
+
+        private final String id;
+        private final int size;
+        private final AtomicInteger written = new AtomicInteger();
+        private final Queue<BatchItemResult> failures = new ConcurrentLinkedQueue<>();
+
+        Submission(String id, int size) {
+            this.id = id;
+            this.size = size;
+        }
+
+        void fail(int index, HttpStatus status, Map<String, String> errors) {
+            failures.add(BatchItemResult.failure(index, null, status, errors));
+        }
+
+        IngestionStatus status() {
+            List<BatchItemResult> failed = List.copyOf(failures);
+            int writtenCount = written.get();
+            return new IngestionStatus(id, size, writtenCount, failed.size(),
+                    writtenCount + failed.size() == size, failed);
+        }
+
+    }
+
+}
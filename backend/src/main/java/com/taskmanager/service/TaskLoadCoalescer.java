@@ -0,0 +1,115 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.CacheConfig;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-flight loading of tasks into the task cache. Concurrent lookups of the same task share one
+ * database read, and its result is handed to lookups arriving within the result window after it
+ * completed. This also holds for unknown ids, which the task cache does not keep.
+ *
+ * <p>A committed change of a task ends its window. A load still running at that point does not put
+ * its result into the cache, so the row as it was before the commit cannot replace the eviction.
+ */
+@Component
+class TaskLoadCoalescer {
+
+    // In-flight and recently completed loads; a null result means there is no such task
+    private final ConcurrentMap<Long, CompletableFuture<Task>> flights = new ConcurrentHashMap<>();
+    private final TaskLookupBatcher lookupBatcher;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> tasksCache;
+    private final Executor windowExpiry;
+    private final Counter loads;
+    private final Counter coalesced;
+
+    @SuppressWarnings("unchecked")
+    TaskLoadCoalescer(TaskLookupBatcher lookupBatcher,
+                      CacheManager cacheManager,
+                      MeterRegistry meterRegistry,
+                      @Value("${taskmanager.lookups.result-window:50ms}") Duration resultWindow) {
+        this.lookupBatcher = lookupBatcher;
+        // The native cache: a put must take effect right away, not after the current transaction
+        this.tasksCache = (com.github.benmanes.caffeine.cache.Cache<Object, Object>)
+                cacheManager.getCache(CacheConfig.TASKS_CACHE).getNativeCache();
+        this.windowExpiry = resultWindow.isZero()
+                ? Runnable::run
+                : CompletableFuture.delayedExecutor(resultWindow.toNanos(), TimeUnit.NANOSECONDS);
+        this.loads = Counter.builder("taskmanager.lookups.loads")
+                .description("Task lookups by id that read the task from the database")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("taskmanager.lookups.coalesced")
+                .description("Task lookups by id answered by another lookup's read, saving a database call")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the task with the given id and caches it; returns {@code null} if there is none. Runs at
+     * most one database read for concurrent calls with the same id.
+     */
+    Task load(Long id) {
+        CompletableFuture<Task> flight = flights.get(id);
+        if (flight == null) {
+            CompletableFuture<Task> started = new CompletableFuture<>();
+            flight = flights.putIfAbsent(id, started);
+            if (flight == null) {
+                return lead(id, started);
+            }
+        }
+        coalesced.increment();
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private Task lead(Long id, CompletableFuture<Task> flight) {
+        loads.increment();
+        Task task;
+        try {
+            task = lookupBatcher.find(id);
+        } catch (RuntimeException | Error e) {
+            // A failure is passed to the lookups already waiting, not kept for the window
+            flights.remove(id, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        if (task != null) {
+            // Under the entry's lock, so a concurrent onTaskChanged either sees the put or prevents it
+            flights.computeIfPresent(id, (key, current) -> {
+                if (current == flight) {
+                    tasksCache.put(id, task);
+                }
+                return current;
+            });
+        }
+        flight.complete(task);
+        windowExpiry.execute(() -> flights.remove(id, flight));
+        return task;
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        // A load that overlapped the change may have read the row as it was before
+        flights.computeIfPresent(event.id(), (key, flight) -> {
+            tasksCache.invalidate(key);
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Merges reads of single tasks that arrive within the batch window into one {@code IN} query. The
+ * first read of a batch waits out the window and then queries, on its own thread, for every id
+ * collected meanwhile; the others wait for its result. With a zero window each read queries alone.
+ */
+@Component
+class TaskLookupBatcher {
+
+    static final int MAX_BATCH_SIZE = 100;
+
+    private final TaskRepository taskRepository;
+    private final long windowNanos;
+    private final Counter batches;
+    private final Counter batched;
+
+    // The batch collecting ids, if any; guarded by this
+    private Batch open;
+
+    TaskLookupBatcher(TaskRepository taskRepository,
+                      MeterRegistry meterRegistry,
+                      @Value("${taskmanager.lookups.batch-window:0}") Duration batchWindow) {
+        this.taskRepository = taskRepository;
+        this.windowNanos = batchWindow.toNanos();
+        this.batches = Counter.builder("taskmanager.lookups.batches")
+                .description("Queries that read a batch of single-task lookups")
+                .register(meterRegistry);
+        this.batched = Counter.builder("taskmanager.lookups.batched")
+                .description("Single-task lookups read by another lookup's batch query")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reads the task with the given id; returns {@code null} if there is none.
+     */
+    Task find(Long id) {
+        if (windowNanos == 0) {
+            return taskRepository.findById(id).orElse(null);
+        }
+
+        Batch batch;
+        boolean first;
+        CompletableFuture<Task> result;
+        synchronized (this) {
+            first = open == null;
+            if (first) {
+                open = new Batch();
+            }
+            batch = open;
+            result = batch.add(id);
+            if (batch.size() >= MAX_BATCH_SIZE) {
+                // Full: later reads start the next batch
+                open = null;
+            }
+        }
+        if (!first) {
+            batched.increment();
+            return join(result);
+        }
+
+        LockSupport.parkNanos(windowNanos);
+        synchronized (this) {
+            if (open == batch) {
+                open = null;
+            }
+        }
+        // No more ids are added once the batch is closed
+        batches.increment();
+        batch.run(taskRepository);
+        return join(result);
+    }
+
+    private static Task join(CompletableFuture<Task> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private static final class Batch {
+
+        private final Map<Long, CompletableFuture<Task>> results = new LinkedHashMap<>();
+
+        CompletableFuture<Task> add(Long id) {
+            return results.computeIfAbsent(id, key -> new CompletableFuture<>());
+        }
+
+        int size() {
+            return results.size();
+        }
+
+        void run(TaskRepository taskRepository) {
+            try {
+                for (Task task : taskRepository.findAllById(results.keySet())) {
+                    results.get(task.getId()).complete(task);
+                }
+                // Ids without a row
+                results.values().forEach(result -> result.complete(null));
+            } catch (RuntimeException | Error e) {
+                results.values().forEach(result -> result.completeExceptionally(e));
+                throw e;
+            }
+        }
+
+    }
+
+}
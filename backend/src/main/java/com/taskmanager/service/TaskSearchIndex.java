@@ -0,0 +1,191 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over task titles and descriptions. Built from the database at startup and
+ * kept current from committed writes, so searching never scans the table.
+ *
+ * <p>A query matches tasks containing all of its terms. Hits are ranked by term frequency, with title
+ * occurrences weighted higher than description ones. Searches read the concurrent maps without locking;
+ * writes are serialized so each task's postings are replaced as a whole.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndex {
+
+    static final int TITLE_WEIGHT = 3;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final int BUILD_PAGE_SIZE = 1000;
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Comparator<Hit> RANKING =
+            Comparator.comparingInt(Hit::score).reversed().thenComparingLong(Hit::id);
+
+    private final TaskRepository taskRepository;
+
+    // term -> task id -> score of the term in that task
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+    // task id -> what is currently indexed for it, needed to remove its old postings
+    private final Map<Long, IndexedTask> indexed = new ConcurrentHashMap<>();
+    // Recently removed task ids. Ids are never reused, so any later state of them is stale; kept long
+    // enough to cover listeners running out of order and clustered-mode replay
+    private final Cache<Long, Boolean> removed = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    @PostConstruct
+    void build() {
+        Long cursor = null;
+        List<Task> page;
+        do {
+            page = taskRepository.findPage(TaskFilter.none(), cursor, BUILD_PAGE_SIZE);
+            page.forEach(this::index);
+            cursor = page.isEmpty() ? null : page.getLast().getId();
+        } while (page.size() == BUILD_PAGE_SIZE);
+    }
+
+    /**
+     * Returns the ids of the tasks matching all terms of {@code query}, best first, skipping
+     * {@code offset} hits, together with the total number of hits.
+     */
+    public Hits search(String query, int offset, int limit) {
+        List<Map<Long, Integer>> matches = new ArrayList<>();
+        for (String term : tokenize(query).keySet()) {
+            Map<Long, Integer> taskScores = postings.get(term);
+            if (taskScores == null) {
+                return Hits.NONE;
+            }
+            matches.add(taskScores);
+        }
+        if (matches.isEmpty()) {
+            return Hits.NONE;
+        }
+        // Drive the intersection from the rarest term
+        matches.sort(Comparator.comparingInt(Map::size));
+
+        // Keep only the best offset + limit hits: the head of the queue is the worst one kept
+        int keep = offset + limit;
+        PriorityQueue<Hit> best = new PriorityQueue<>(RANKING.reversed());
+        int total = 0;
+        for (Map.Entry<Long, Integer> candidate : matches.getFirst().entrySet()) {
+            int score = candidate.getValue();
+            for (int i = 1; i < matches.size() && score > 0; i++) {
+                Integer termScore = matches.get(i).get(candidate.getKey());
+                score = termScore == null ? 0 : score + termScore;
+            }
+            if (score == 0) {
+                continue;
+            }
+            total++;
+            best.add(new Hit(candidate.getKey(), score));
+            if (best.size() > keep) {
+                best.poll();
+            }
+        }
+
+        Hit[] ranked = best.toArray(Hit[]::new);
+        Arrays.sort(ranked, RANKING);
+        List<Long> ids = Arrays.stream(ranked).skip(offset).map(Hit::id).toList();
+        return new Hits(ids, total);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.current() == null) {
+            remove(event.id());
+        } else {
+            index(event.current());
+        }
+    }
+
+    synchronized void index(Task task) {
+        if (removed.getIfPresent(task.getId()) != null) {
+            return;
+        }
+        IndexedTask previous = indexed.get(task.getId());
+        // Listeners of concurrent commits may run out of order; never replace a newer state
+        if (previous != null && task.getVersion() != null && task.getVersion() < previous.version()) {
+            return;
+        }
+        if (previous != null) {
+            removePostings(task.getId(), previous);
+        }
+
+        Map<String, Integer> terms = tokenize(task.getTitle(), TITLE_WEIGHT);
+        tokenize(task.getDescription(), DESCRIPTION_WEIGHT)
+                .forEach((term, score) -> terms.merge(term, score, Integer::sum));
+        terms.forEach((term, score) ->
+                postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(task.getId(), score));
+        indexed.put(task.getId(), new IndexedTask(task.getVersion() == null ? 0 : task.getVersion(),
+                terms.keySet().toArray(String[]::new)));
+    }
+
+    synchronized void remove(Long id) {
+        removed.put(id, Boolean.TRUE);
+        IndexedTask previous = indexed.remove(id);
+        if (previous != null) {
+            removePostings(id, previous);
+        }
+    }
+
+    private void removePostings(Long id, IndexedTask task) {
+        for (String term : task.terms()) {
+            postings.computeIfPresent(term, (t, taskScores) -> {
+                taskScores.remove(id);
+                return taskScores.isEmpty() ? null : taskScores;
+            });
+        }
+    }
+
+    static Map<String, Integer> tokenize(String text) {
+        return tokenize(text, 1);
+    }
+
+    private static Map<String, Integer> tokenize(String text, int weight) {
+        Map<String, Integer> terms = new HashMap<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String term : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.merge(term, weight, Integer::sum);
+            }
+        }
+        return terms;
+    }
+
+    public record Hits(List<Long> ids, int total) {
+
+        static final Hits NONE = new Hits(List.of(), 0);
+
+    }
+
+    private record Hit(long id, int score) {
+    }
+
+    private record IndexedTask(long version, String[] terms) {
+    }
+
+}
@@ -1,51 +1,498 @@
 package com.taskmanager.service;
 
+import com.taskmanager.config.CacheConfig;
+import com.taskmanager.dto.BatchItemResult;
+import com.taskmanager.dto.BatchResult;
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.dto.TaskLookupResult;
+import com.taskmanager.dto.TaskPage;
+import com.taskmanager.dto.TaskPatch;
+import com.taskmanager.dto.TaskSearchResult;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.exception.BatchSizeExceededException;
+import com.taskmanager.exception.InvalidPatchException;
 import com.taskmanager.exception.TaskNotFoundException;
+import com.taskmanager.exception.TaskStatusConflictException;
+import com.taskmanager.exception.TaskVersionMismatchException;
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
 import com.taskmanager.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed("taskmanager.service")
 public class TaskService {
 
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 1000;
+    public static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    public static final int MAX_SEARCH_HITS = 10_000;
+
     private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskSearchIndex searchIndex;
+    private final TaskLoadCoalescer taskLoads;
+
+    /**
+     * Returns the page of tasks following {@code cursor}. The page size defaults to
+     * {@value #DEFAULT_PAGE_SIZE} and is capped at {@value #MAX_PAGE_SIZE}.
+     */
+    public TaskPage getTasks(TaskFilter filter, Long cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.clamp(limit, 1, MAX_PAGE_SIZE);
+
+        // Fetch one extra row to find out whether there is a next page without a count query
+        List<Task> tasks = taskRepository.findPage(filter, cursor, pageSize + 1);
+        if (tasks.size() <= pageSize) {
+            return new TaskPage(tasks, null);
+        }
+
+        List<Task> page = tasks.subList(0, pageSize);
+        return new TaskPage(page, page.get(pageSize - 1).getId());
+    }
+
+    /**
+     * Counts the tasks with the given status (all tasks when {@code null}). With {@code overdue}, only
+     * open tasks due before today are counted.
+     */
+    public long countTasks(TaskStatus status, boolean overdue) {
+        if (!overdue) {
+            return status == null ? taskRepository.count() : taskRepository.countByStatus(status);
+        }
+        if (status != null && !TaskStatus.OPEN.contains(status)) {
+            return 0;
+        }
+        Set<TaskStatus> statuses = status == null ? TaskStatus.OPEN : Set.of(status);
+        return taskRepository.countByStatusInAndDueDateBefore(statuses, LocalDate.now());
+    }
+
+    /**
+     * Returns page {@code page} of the tasks containing all words of {@code query}, best match first.
+     * Matching runs on the in-memory index; only the tasks of the requested page are loaded. Pages
+     * reaching past the first {@value #MAX_SEARCH_HITS} hits are empty.
+     */
+    public TaskSearchResult searchTasks(String query, int page, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_SEARCH_PAGE_SIZE : Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        long offset = (long) Math.max(page, 0) * pageSize;
+        if (offset + pageSize > MAX_SEARCH_HITS) {
+            return new TaskSearchResult(List.of(), searchIndex.search(query, 0, 0).total());
+        }
+        TaskSearchIndex.Hits hits = searchIndex.search(query, (int) offset, pageSize);
 
-    public List<Task> getAllTasks() {
-        return taskRepository.findAll();
+        // A hit may have been deleted since it was matched; keep the ranking of the others
+        Map<Long, Task> tasks = findAllById(hits.ids());
+        return new TaskSearchResult(hits.ids().stream().map(tasks::get).filter(Objects::nonNull).toList(),
+                hits.total());
     }
 
+    /**
+     * Hands every task to {@code consumer} in id order while scrolling through the table. Each task is
+     * detached once consumed so the persistence context, and with it memory use, stays constant.
+     */
+    @Transactional(readOnly = true)
+    public void exportTasks(Consumer<Task> consumer) {
+        try (Stream<Task> tasks = taskRepository.streamAllOrderedById()) {
+            tasks.forEach(task -> {
+                consumer.accept(task);
+                entityManager.detach(task);
+            });
+        }
+    }
+
+    /**
+     * Read-through cached lookup. Concurrent misses for the same id share a single load (see
+     * {@link TaskLoadCoalescer}); writes evict the entry after they commit.
+     *
+     * <p>An unknown id is not cached. It is signalled by the stackless {@link TaskNotFoundException#INSTANCE}
+     * rather than by an exception thrown from a cache loader, which Spring's cache abstraction would wrap
+     * twice (each wrapper capturing a stack trace).
+     */
     public Task getTaskById(Long id) {
-        return taskRepository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException(id));
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        if (cache == null) {
+            return findTask(id);
+        }
+        @SuppressWarnings("unchecked")
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+        Task task = (Task) nativeCache.getIfPresent(id);
+        if (task == null) {
+            task = taskLoads.load(id);
+        }
+        if (task == null) {
+            throw TaskNotFoundException.INSTANCE;
+        }
+        return task;
+    }
+
+    /**
+     * Returns the tasks with the given ids in request order (each id once), and the ids without a task.
+     * Cached tasks are taken from the task cache, all others are read with a single {@code IN} query.
+     */
+    public TaskLookupResult getTasksById(List<Long> ids) {
+        checkBatchSize(ids.size());
+        List<Long> requested = ids.stream().filter(Objects::nonNull).distinct().toList();
+
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        Map<Long, Task> found = new HashMap<>();
+        List<Long> uncached = new ArrayList<>();
+        for (Long id : requested) {
+            Task cached = cache == null ? null : cache.get(id, Task.class);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                uncached.add(id);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            found.putAll(findAllById(uncached));
+        }
+
+        List<Task> tasks = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            Task task = found.get(id);
+            if (task != null) {
+                tasks.add(task);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new TaskLookupResult(tasks, missing);
     }
 
     @Transactional
     public Task createTask(Task task) {
         task.setId(null);
-        return taskRepository.save(task);
+        task.setVersion(null);
+        Task createdTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(createdTask));
+        return createdTask;
+    }
+
+    /**
+     * Replaces the fields of the task. When {@code expectedVersion} is given the update only applies if
+     * the task is still at that version; in any case the versioned UPDATE fails if another transaction
+     * changed the task in the meantime.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public Task updateTask(Long id, Task taskDetails, Long expectedVersion) {
+        Task task = findTask(id);
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new TaskVersionMismatchException();
+        }
+
+        Task previous = copyOf(task);
+        apply(task, taskDetails);
+        Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(previous, updatedTask));
+        return updatedTask;
+    }
+
+    /**
+     * Applies a merge patch to the task. Only the patched fields are validated, and only their columns
+     * end up in the UPDATE statement.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public Task patchTask(Long id, TaskPatch patch, Long expectedVersion) {
+        Map<String, String> errors = new HashMap<>();
+        for (String field : patch.fields()) {
+            for (ConstraintViolation<Task> violation : validator.validateProperty(patch.values(), field)) {
+                errors.put(field, violation.getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidPatchException(errors);
+        }
+
+        Task task = findTask(id);
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new TaskVersionMismatchException();
+        }
+
+        Task previous = copyOf(task);
+        Task values = patch.values();
+        if (patch.has("title")) {
+            task.setTitle(values.getTitle());
+        }
+        if (patch.has("description")) {
+            task.setDescription(values.getDescription());
+        }
+        if (patch.has("status")) {
+            task.setStatus(values.getStatus());
+        }
+        if (patch.has("dueDate")) {
+            task.setDueDate(values.getDueDate());
+        }
+        Task patchedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(previous, patchedTask));
+        return patchedTask;
+    }
+
+    /**
+     * Moves the task to {@code status} with a single versioned UPDATE, without loading the entity.
+     * The current state is taken from the task cache; only on a miss, or if the cached copy turns out
+     * to be outdated, is the task read first. With {@code expectedStatus}, the change only applies if
+     * the task is in that status.
+     */
+    @Transactional
+    public Task changeStatus(Long id, TaskStatus status, TaskStatus expectedStatus) {
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        Task cached = cache == null ? null : cache.get(id, Task.class);
+        // A cached copy already in the target status may be outdated, so only the row decides that
+        if (cached != null && cached.getStatus() != status
+                && (expectedStatus == null || cached.getStatus() == expectedStatus)) {
+            Task changedTask = changeStatus(cached, status);
+            if (changedTask != null) {
+                return changedTask;
+            }
+        }
+
+        Task current = copyOf(findTask(id));
+        if (expectedStatus != null && current.getStatus() != expectedStatus) {
+            throw new TaskStatusConflictException(expectedStatus);
+        }
+        if (current.getStatus() == status) {
+            return current;
+        }
+        Task changedTask = changeStatus(current, status);
+        if (changedTask == null) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, id);
+        }
+        return changedTask;
+    }
+
+    // Returns null when the task is no longer at the version of the given state
+    private Task changeStatus(Task current, TaskStatus status) {
+        if (taskRepository.updateStatus(current.getId(), current.getVersion(), status) == 0) {
+            return null;
+        }
+
+        Task changedTask = copyOf(current);
+        changedTask.setStatus(status);
+        changedTask.setVersion(current.getVersion() + 1);
+        // The next transition of this task skips the read
+        cacheAfterCommit(changedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(current, changedTask));
+        return changedTask;
+    }
+
+    /**
+     * Replaces the cached copy of the task once the transaction has committed. Transactions on the same
+     * task run their after-commit callbacks in no particular order, so an entry is only ever replaced by
+     * a newer version, and never added: a task evicted in the meantime stays evicted.
+     */
+    private void cacheAfterCommit(Task task) {
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        if (cache == null) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+        Runnable put = () -> nativeCache.asMap().computeIfPresent(task.getId(),
+                (id, cached) -> ((Task) cached).getVersion() < task.getVersion() ? task : cached);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put.run();
+            }
+        });
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public void deleteTask(Long id) {
+        Task task = findTask(id);
+        taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(task));
+    }
+
+    /**
+     * Validates each task and persists the valid ones in a single transaction. The inserts are sent
+     * to the database as JDBC batches when the transaction flushes.
+     */
+    @Transactional
+    public BatchResult createTasks(List<Task> tasks) {
+        checkBatchSize(tasks.size());
+
+        BatchItemResult[] results = new BatchItemResult[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            Map<String, String> errors = validate(task);
+            if (!errors.isEmpty()) {
+                results[i] = BatchItemResult.failure(i, null, HttpStatus.BAD_REQUEST, errors);
+                continue;
+            }
+            task.setId(null);
+            task.setVersion(null);
+            Task createdTask = taskRepository.save(task);
+            eventPublisher.publishEvent(TaskChangedEvent.created(createdTask));
+            results[i] = BatchItemResult.success(i, HttpStatus.CREATED, createdTask);
+        }
+        return BatchResult.of(Arrays.asList(results));
+    }
+
+    /**
+     * Validates each task and applies it to the existing task with the same id. All existing tasks are
+     * loaded with one query; the updates are flushed as JDBC batches at commit.
+     */
+    @Transactional
+    public BatchResult updateTasks(List<Task> tasks) {
+        checkBatchSize(tasks.size());
+
+        Map<Long, Task> existing = findAllById(tasks.stream()
+                .filter(Objects::nonNull)
+                .map(Task::getId)
+                .toList());
+
+        // State before the batch, kept once per task even if the batch updates it several times
+        Map<Long, Task> previous = new LinkedHashMap<>();
+        BatchItemResult[] results = new BatchItemResult[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            Task taskDetails = tasks.get(i);
+            Map<String, String> errors = validate(taskDetails);
+            if (taskDetails != null && taskDetails.getId() == null) {
+                errors.put("id", "Id is required");
+            }
+            if (!errors.isEmpty()) {
+                Long id = taskDetails == null ? null : taskDetails.getId();
+                results[i] = BatchItemResult.failure(i, id, HttpStatus.BAD_REQUEST, errors);
+                continue;
+            }
+
+            Task task = existing.get(taskDetails.getId());
+            if (task == null) {
+                results[i] = BatchItemResult.failure(i, taskDetails.getId(), HttpStatus.NOT_FOUND,
+                        Map.of("id", "Task not found"));
+                continue;
+            }
+            previous.computeIfAbsent(task.getId(), taskId -> copyOf(task));
+            apply(task, taskDetails);
+            results[i] = BatchItemResult.success(i, HttpStatus.OK, task);
+        }
+        previous.forEach((id, task) -> eventPublisher.publishEvent(TaskChangedEvent.updated(task, existing.get(id))));
+        evictAll(existing.keySet());
+        return BatchResult.of(Arrays.asList(results));
     }
 
+    /**
+     * Deletes the given tasks with one locking lookup query and one bulk delete statement. The lock
+     * makes an overlapping delete of the same ids wait and then find them gone, so each task is
+     * reported deleted, and its event published, by exactly one request.
+     */
     @Transactional
-    public Task updateTask(Long id, Task taskDetails) {
-        Task task = getTaskById(id);
+    public BatchResult deleteTasks(List<Long> ids) {
+        checkBatchSize(ids.size());
 
+        Map<Long, Task> existing = taskRepository.findAllByIdForUpdate(
+                        ids.stream().filter(Objects::nonNull).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<BatchItemResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id != null && existing.containsKey(id)) {
+                results.add(BatchItemResult.deleted(i, id));
+            } else {
+                results.add(BatchItemResult.failure(i, id, HttpStatus.NOT_FOUND, Map.of("id", "Task not found")));
+            }
+        }
+        if (!existing.isEmpty() && taskRepository.deleteAllByIdIn(existing.keySet()) != existing.size()) {
+            // Rows removed behind the lock; roll back rather than report deletes that did not happen here
+            throw new ObjectOptimisticLockingFailureException(Task.class, existing.keySet());
+        }
+        existing.values().forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.deleted(task)));
+        evictAll(existing.keySet());
+        return BatchResult.of(results);
+    }
+
+    // Writes always read the current row, never the shared cached instance
+    private Task findTask(Long id) {
+        return taskRepository.findById(id)
+                .orElseThrow(() -> TaskNotFoundException.INSTANCE);
+    }
+
+    private static void apply(Task task, Task taskDetails) {
         task.setTitle(taskDetails.getTitle());
         task.setDescription(taskDetails.getDescription());
         task.setStatus(taskDetails.getStatus());
         task.setDueDate(taskDetails.getDueDate());
+    }
 
-        return taskRepository.save(task);
+    private static Task copyOf(Task task) {
+        return new Task(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getDueDate(), task.getVersion());
     }
 
-    @Transactional
-    public void deleteTask(Long id) {
-        Task task = getTaskById(id);
-        taskRepository.delete(task);
+    private void evictAll(Iterable<Long> ids) {
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+    }
+
+    private Map<Long, Task> findAllById(List<Long> ids) {
+        return taskRepository.findAllById(ids.stream().filter(Objects::nonNull).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private Map<String, String> validate(Task task) {
+        Map<String, String> errors = new HashMap<>();
+        if (task == null) {
+            errors.put("task", "Task is required");
+            return errors;
+        }
+        for (ConstraintViolation<Task> violation : validator.validate(task)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    private static void checkBatchSize(int size) {
+        if (size > MAX_BATCH_SIZE) {
+            throw new BatchSizeExceededException(MAX_BATCH_SIZE);
+        }
     }
 
 }
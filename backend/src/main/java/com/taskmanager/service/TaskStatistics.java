@@ -0,0 +1,144 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskCount;
+import com.taskmanager.dto.TaskStats;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Task counts kept in memory so statistics never hit the database. Seeded with one grouped query at
+ * startup and adjusted after every committed write. In clustered mode, {@link TaskChangeLog} seeds the
+ * counts again from the snapshot it starts reading the change log from.
+ *
+ * <p>Open tasks that are not overdue yet are counted per due date; once a day has passed, the counts of
+ * the dates before it are folded into the overdue counter on the next read.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskStatistics {
+
+    private final TaskRepository taskRepository;
+
+    private final Map<TaskStatus, LongAdder> byStatus = newCounters();
+    private final NavigableMap<LocalDate, LongAdder> openByDueDate = new ConcurrentSkipListMap<>();
+    private final LongAdder overdue = new LongAdder();
+
+    // Writers share the read lock; only the daily roll-over takes the write lock
+    private final ReadWriteLock rollOverLock = new ReentrantReadWriteLock();
+    private volatile LocalDate overdueBefore = LocalDate.now();
+
+    /** Replaces the counts with those of the database; reads in the caller's transaction, if any. */
+    @PostConstruct
+    void seed() {
+        List<TaskCount> counts = taskRepository.countByStatusAndDueDate();
+
+        // Reentrant: add() takes the read lock while the write lock is held
+        Lock lock = rollOverLock.writeLock();
+        lock.lock();
+        try {
+            byStatus.values().forEach(LongAdder::reset);
+            openByDueDate.clear();
+            overdue.reset();
+            for (TaskCount count : counts) {
+                add(count.status(), count.dueDate(), count.count());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public TaskStats getStats() {
+        return getStats(LocalDate.now());
+    }
+
+    TaskStats getStats(LocalDate today) {
+        rollOver(today);
+
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        long total = 0;
+        for (Map.Entry<TaskStatus, LongAdder> entry : byStatus.entrySet()) {
+            long count = entry.getValue().sum();
+            counts.put(entry.getKey(), count);
+            total += count;
+        }
+        return new TaskStats(counts, total, overdue.sum());
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.previous() != null) {
+            add(event.previous(), -1);
+        }
+        if (event.current() != null) {
+            add(event.current(), 1);
+        }
+    }
+
+    private void add(Task task, long delta) {
+        add(task.getStatus(), task.getDueDate(), delta);
+    }
+
+    private void add(TaskStatus status, LocalDate dueDate, long delta) {
+        byStatus.get(status).add(delta);
+        if (dueDate == null || !TaskStatus.OPEN.contains(status)) {
+            return;
+        }
+
+        Lock lock = rollOverLock.readLock();
+        lock.lock();
+        try {
+            if (dueDate.isBefore(overdueBefore)) {
+                overdue.add(delta);
+            } else {
+                openByDueDate.computeIfAbsent(dueDate, date -> new LongAdder()).add(delta);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rollOver(LocalDate today) {
+        if (!today.isAfter(overdueBefore)) {
+            return;
+        }
+
+        Lock lock = rollOverLock.writeLock();
+        lock.lock();
+        try {
+            if (today.isAfter(overdueBefore)) {
+                Map<LocalDate, LongAdder> due = openByDueDate.headMap(today);
+                due.values().forEach(count -> overdue.add(count.sum()));
+                due.clear();
+                overdueBefore = today;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Map<TaskStatus, LongAdder> newCounters() {
+        Map<TaskStatus, LongAdder> counters = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counters.put(status, new LongAdder());
+        }
+        return counters;
+    }
+
+}
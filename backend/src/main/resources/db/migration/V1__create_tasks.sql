@@ -0,0 +1,13 @@
+-- Initial schema: tasks table with a pooled id sequence (allocation size 50, see Task.id)
+
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tasks (
+    id          BIGINT       NOT NULL,
+    title       VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    status      VARCHAR(20)  NOT NULL,
+    due_date    DATE,
+    version     BIGINT       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_tasks PRIMARY KEY (id)
+);
@@ -0,0 +1,3 @@
+-- Serves status filters, due date ranges within a status and the overdue lookup (open statuses, due_date < today)
+
+CREATE INDEX idx_tasks_status_due_date ON tasks (status, due_date);
@@ -0,0 +1,20 @@
+-- Change log for clustered mode: every committed task write, read by the other instances to keep their
+-- caches and in-memory views current. Rows are deleted after taskmanager.cluster.retention.
+
+CREATE TABLE task_changes (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    task_id           BIGINT       NOT NULL,
+    change_type       VARCHAR(10)  NOT NULL,
+    origin            VARCHAR(36)  NOT NULL,
+    changed_at        TIMESTAMP    NOT NULL,
+    version           BIGINT,
+    title             VARCHAR(100),
+    description       VARCHAR(500),
+    status            VARCHAR(20),
+    due_date          DATE,
+    previous_status   VARCHAR(20),
+    previous_due_date DATE,
+    CONSTRAINT pk_task_changes PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_task_changes_changed_at ON task_changes (changed_at);
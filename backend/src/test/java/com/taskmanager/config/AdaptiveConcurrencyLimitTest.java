@@ -0,0 +1,91 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private final AdaptiveConcurrencyLimit limit =
+            new AdaptiveConcurrencyLimit("reads", 10, 2, 12, Duration.ofMillis(100));
+
+    @Test
+    void tryAcquire_beyondLimit_rejects() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+
+        // Act & Assert
+        assertThat(limit.tryAcquire()).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(10);
+        assertThat(limit.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void release_whenFastAndBusy_growsLimitUpToMax() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            limit.tryAcquire();
+        }
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            limit.release(FAST, false);
+            limit.tryAcquire();
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isEqualTo(12);
+    }
+
+    @Test
+    void release_whenFastButIdle_keepsLimit() {
+        // Arrange
+        limit.tryAcquire();
+
+        // Act
+        limit.release(FAST, false);
+
+        // Assert
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void release_whenSlowOrFailed_shrinksLimitDownToMin() {
+        // Arrange
+        limit.tryAcquire();
+
+        // Act
+        limit.release(SLOW, false);
+
+        // Assert
+        assertThat(limit.getLimit()).isEqualTo(9);
+
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.release(FAST, true);
+        }
+        assertThat(limit.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void bindTo_registersLimitGauges() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // Act
+        limit.bindTo(registry);
+
+        // Assert
+        assertThat(registry.get("taskmanager.concurrency.limit").tag("budget", "reads").gauge().value())
+                .isEqualTo(10);
+    }
+
+}
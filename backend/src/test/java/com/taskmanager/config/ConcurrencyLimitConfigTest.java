@@ -0,0 +1,53 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitConfigTest {
+
+    private final ConcurrencyLimitConfig config = new ConcurrencyLimitConfig();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private FilterRegistrationBean<ConcurrencyLimitFilter> registration(boolean enabled) {
+        return config.concurrencyLimitFilter(meterRegistry, enabled,
+                20, 2, 200, Duration.ofMillis(250), 10, 10, 1, 10, Duration.ofMillis(500));
+    }
+
+    @Test
+    void concurrencyLimitFilter_whenEnabled_isRegisteredWithMetrics() {
+        // Act
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = registration(true);
+
+        // Assert
+        assertThat(registration.isEnabled()).isTrue();
+        assertThat(registration.getUrlPatterns()).containsExactly("/api/*");
+        assertThat(meterRegistry.find("taskmanager.concurrency.limit").gauges()).hasSize(2);
+    }
+
+    @Test
+    void concurrencyLimitFilter_withWriteLimitAbovePoolSize_capsItAtPoolSize() {
+        // Act
+        config.concurrencyLimitFilter(meterRegistry, true,
+                20, 2, 200, Duration.ofMillis(250), 10, 20, 1, 50, Duration.ofMillis(500));
+
+        // Assert
+        assertThat(meterRegistry.get("taskmanager.concurrency.limit").tag("budget", "writes").gauge().value())
+                .isEqualTo(10);
+    }
+
+    @Test
+    void concurrencyLimitFilter_whenDisabled_isNotRegistered() {
+        // Act
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = registration(false);
+
+        // Assert
+        assertThat(registration.isEnabled()).isFalse();
+        assertThat(meterRegistry.find("taskmanager.concurrency.limit").gauges()).isEmpty();
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.taskmanager.config;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final AdaptiveConcurrencyLimit reads = new AdaptiveConcurrencyLimit("reads", 1, 1, 1, Duration.ofSeconds(1));
+    private final AdaptiveConcurrencyLimit writes = new AdaptiveConcurrencyLimit("writes", 1, 1, 1, Duration.ofSeconds(1));
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(reads, writes);
+
+    // Starts a request that holds a slot of its budget until the returned latch is counted down
+    private CountDownLatch holdSlot(String method, Thread[] holder) throws InterruptedException {
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blockingChain = (request, response) -> {
+            inFlight.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        holder[0] = new Thread(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest(method, "/api/tasks"), new MockHttpServletResponse(), blockingChain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        holder[0].start();
+        inFlight.await(5, TimeUnit.SECONDS);
+        return release;
+    }
+
+    @Test
+    void doFilter_belowLimit_passesRequestThrough() throws Exception {
+        // Arrange
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), response, chain);
+
+        // Assert
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void doFilter_whenLimitReached_returns503WithRetryAfter() throws Exception {
+        // Arrange
+        Thread[] holder = new Thread[1];
+        CountDownLatch release = holdSlot("GET", holder);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), response, chain);
+        release.countDown();
+        holder[0].join();
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(reads.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_whenReadLimitReached_stillAdmitsWrites() throws Exception {
+        // Arrange
+        Thread[] holder = new Thread[1];
+        CountDownLatch release = holdSlot("GET", holder);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/tasks"), response, chain);
+        release.countDown();
+        holder[0].join();
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void doFilter_lookupByIds_countsAsRead() throws Exception {
+        // Arrange
+        Thread[] holder = new Thread[1];
+        CountDownLatch release = holdSlot("GET", holder);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("POST", ConcurrencyLimitFilter.LOOKUP_PATH), response, chain);
+        release.countDown();
+        holder[0].join();
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(reads.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_asyncRequest_holdsSlotUntilComplete() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/export");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain asyncChain = (req, res) -> req.startAsync(req, res);
+
+        // Act
+        filter.doFilter(request, response, asyncChain);
+        int inFlightWhileStreaming = reads.getInFlight();
+        request.getAsyncContext().complete();
+
+        // Assert
+        assertThat(inFlightWhileStreaming).isEqualTo(1);
+        assertThat(reads.getInFlight()).isZero();
+    }
+
+    @Test
+    void doFilter_forChangeFeed_bypassesLimit() throws Exception {
+        // Arrange
+        Thread[] holder = new Thread[1];
+        CountDownLatch release = holdSlot("GET", holder);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", ConcurrencyLimitFilter.EVENTS_PATH);
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        release.countDown();
+        holder[0].join();
+
+        // Assert
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+}
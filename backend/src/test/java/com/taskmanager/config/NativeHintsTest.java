@@ -0,0 +1,34 @@
+package com.taskmanager.config;
+
+import com.taskmanager.dto.TaskCount;
+import com.taskmanager.dto.TaskStats;
+import com.taskmanager.exception.GlobalExceptionHandler;
+import com.taskmanager.model.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void registerHints_coversEntityRepositoryAndExceptionHandler() {
+        // Act
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Assert
+        assertThat(RuntimeHintsPredicates.reflection().onType(Task.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TaskCount.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TaskStats.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(NativeHints.repositoryProxyInterfaces())).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(GlobalExceptionHandler.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS)).accepts(hints);
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.taskmanager.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class VirtualThreadConfigTest {
+
+    private final VirtualThreadConfig config = new VirtualThreadConfig();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void customizer_whenEnabled_runsRequestsOnVirtualThreads() {
+        // Arrange
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory();
+        ProtocolHandler protocolHandler = mock(ProtocolHandler.class);
+
+        // Act
+        config.virtualThreadRequestExecutor(true).customize(factory);
+        factory.getTomcatProtocolHandlerCustomizers().forEach(customizer ->
+                ((TomcatProtocolHandlerCustomizer<ProtocolHandler>) customizer).customize(protocolHandler));
+
+        // Assert
+        verify(protocolHandler, times(1)).setExecutor(any(VirtualThreadExecutor.class));
+    }
+
+    @Test
+    void customizer_whenDisabled_keepsThreadPool() {
+        // Arrange
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory();
+
+        // Act
+        config.virtualThreadRequestExecutor(false).customize(factory);
+
+        // Assert
+        assertThat(factory.getTomcatProtocolHandlerCustomizers()).isEmpty();
+    }
+
+}
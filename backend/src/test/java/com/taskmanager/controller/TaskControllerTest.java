@@ -1,22 +1,53 @@
 package com.taskmanager.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.config.WebConfig;
+import com.taskmanager.dto.BatchItemResult;
+import com.taskmanager.dto.BatchResult;
+import com.taskmanager.dto.IngestionStatus;
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.dto.TaskLookupResult;
+import com.taskmanager.dto.TaskPage;
+import com.taskmanager.dto.TaskPatch;
+import com.taskmanager.dto.TaskSearchResult;
+import com.taskmanager.dto.TaskStats;
+import com.taskmanager.exception.BatchSizeExceededException;
+import com.taskmanager.exception.IngestionNotFoundException;
+import com.taskmanager.exception.IngestionQueueFullException;
 import com.taskmanager.exception.TaskNotFoundException;
+import com.taskmanager.exception.TaskStatusConflictException;
+import com.taskmanager.exception.TaskVersionMismatchException;
 import com.taskmanager.model.Task;
 import com.taskmanager.model.TaskStatus;
+import com.taskmanager.service.TaskEventBroadcaster;
+import com.taskmanager.service.TaskIngestionService;
 import com.taskmanager.service.TaskService;
+import com.taskmanager.service.TaskStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -25,6 +56,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TaskController.class)
+@AutoConfigureObservability
 class TaskControllerTest {
 
     @Autowired
@@ -33,9 +65,26 @@ class TaskControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ObjectMapper cborMapper = WebConfig.cborMapper(Jackson2ObjectMapperBuilder.json());
+
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskStatistics taskStatistics;
+
+    @MockBean
+    private TaskEventBroadcaster taskEventBroadcaster;
+
+    @MockBean
+    private TaskIngestionService taskIngestionService;
+
+    @MockBean
+    private TaskListCache taskListCache;
+
     // Helper methods for creating test data
     private Task createValidTask() {
         Task task = new Task();
@@ -64,12 +113,13 @@ class TaskControllerTest {
         task2.setTitle("Task 2");
         List<Task> tasks = Arrays.asList(task1, task2);
 
-        when(taskService.getAllTasks()).thenReturn(tasks);
+        when(taskService.getTasks(TaskFilter.none(), null, null)).thenReturn(new TaskPage(tasks, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().doesNotExist(HttpHeaders.LINK))
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].title").value("Test Task"))
@@ -77,13 +127,14 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$[1].id").value(2))
                 .andExpect(jsonPath("$[1].title").value("Task 2"));
 
-        verify(taskService, times(1)).getAllTasks();
+        verify(taskService, times(1)).getTasks(TaskFilter.none(), null, null);
     }
 
     @Test
     void getAllTasks_whenEmpty_returnsEmptyArray() throws Exception {
         // Arrange
-        when(taskService.getAllTasks()).thenReturn(Collections.emptyList());
+        when(taskService.getTasks(TaskFilter.none(), null, null))
+                .thenReturn(new TaskPage(Collections.emptyList(), null));
 
         // Act & Assert
         mockMvc.perform(get("/api/tasks"))
@@ -91,7 +142,201 @@ class TaskControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$", hasSize(0)));
 
-        verify(taskService, times(1)).getAllTasks();
+        verify(taskService, times(1)).getTasks(TaskFilter.none(), null, null);
+    }
+
+    @Test
+    void getAllTasks_withFiltersAndCursor_passesThemToService() throws Exception {
+        // Arrange
+        TaskFilter filter = new TaskFilter(TaskStatus.IN_PROGRESS, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        when(taskService.getTasks(filter, 5L, 20)).thenReturn(new TaskPage(Collections.emptyList(), null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                        .param("status", "IN_PROGRESS")
+                        .param("dueFrom", "2026-01-01")
+                        .param("dueTo", "2026-01-31")
+                        .param("cursor", "5")
+                        .param("limit", "20"))
+                .andExpect(status().isOk());
+
+        verify(taskService, times(1)).getTasks(filter, 5L, 20);
+    }
+
+    @Test
+    void getAllTasks_withOverdue_passesOverdueFilterToService() throws Exception {
+        // Arrange
+        TaskFilter filter = new TaskFilter(null, null, null, true);
+        when(taskService.getTasks(filter, null, null)).thenReturn(new TaskPage(Collections.emptyList(), null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").param("overdue", "true"))
+                .andExpect(status().isOk());
+
+        verify(taskService, times(1)).getTasks(filter, null, null);
+    }
+
+    @Test
+    void countTasks_returnsCountFromService() throws Exception {
+        // Arrange
+        when(taskService.countTasks(TaskStatus.TODO, true)).thenReturn(4L);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/count")
+                        .param("status", "TODO")
+                        .param("overdue", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(4));
+    }
+
+    @Test
+    void searchTasks_returnsResultFromService() throws Exception {
+        // Arrange
+        when(taskService.searchTasks("report", 1, 5))
+                .thenReturn(new TaskSearchResult(List.of(createValidTask()), 6));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/search")
+                        .param("q", "report")
+                        .param("page", "1")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks", hasSize(1)))
+                .andExpect(jsonPath("$.total").value(6));
+    }
+
+    @Test
+    void getStats_returnsCountsFromStatistics() throws Exception {
+        // Arrange
+        Map<TaskStatus, Long> byStatus = Map.of(TaskStatus.TODO, 2L, TaskStatus.IN_PROGRESS, 1L, TaskStatus.DONE, 0L);
+        when(taskStatistics.getStats()).thenReturn(new TaskStats(byStatus, 3, 1));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.byStatus.TODO").value(2))
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.overdue").value(1));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void streamEvents_passesLastEventIdToBroadcasterAndStartsAsync() throws Exception {
+        // Arrange
+        when(taskEventBroadcaster.subscribe(42L)).thenReturn(new SseEmitter());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/events").header("Last-Event-ID", "42"))
+                .andExpect(request().asyncStarted());
+
+        verify(taskEventBroadcaster, times(1)).subscribe(42L);
+    }
+
+    @Test
+    void getAllTasks_whenMorePagesExist_returnsNextLink() throws Exception {
+        // Arrange
+        TaskFilter filter = new TaskFilter(TaskStatus.TODO, null, null);
+        when(taskService.getTasks(filter, null, 1))
+                .thenReturn(new TaskPage(List.of(createValidTask()), 1L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks?status=TODO&limit=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().string(HttpHeaders.LINK,
+                        "</api/tasks?status=TODO&limit=1&cursor=1>; rel=\"next\""));
+    }
+
+    @Test
+    void getAllTasks_withInvalidStatus_returns400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").param("status", "UNKNOWN"))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).getTasks(any(), any(), any());
+    }
+
+    // GET /api/tasks/export tests
+
+    @Test
+    void exportTasks_streamsTasksAsNdjson() throws Exception {
+        // Arrange
+        Task task1 = createValidTask();
+        Task task2 = createValidTask();
+        task2.setId(2L);
+        task2.setTitle("Task 2");
+        doAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(0);
+            consumer.accept(task1);
+            consumer.accept(task2);
+            return null;
+        }).when(taskService).exportTasks(any());
+
+        // Act & Assert
+        MvcResult result = mockMvc.perform(get("/api/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], Task.class)).isEqualTo(task1);
+        assertThat(objectMapper.readValue(lines[1], Task.class)).isEqualTo(task2);
+    }
+
+    // GET /api/tasks?ids= and POST /api/tasks/lookup tests
+
+    @Test
+    void getTasksById_withIdsParam_returnsTasksInRequestOrderAndMissingIds() throws Exception {
+        // Arrange
+        Task task = createValidTask();
+        when(taskService.getTasksById(List.of(7L, 1L))).thenReturn(new TaskLookupResult(List.of(task), List.of(7L)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").param("ids", "7,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks", hasSize(1)))
+                .andExpect(jsonPath("$.tasks[0].id").value(1))
+                .andExpect(jsonPath("$.missing[0]").value(7));
+
+        verify(taskService, never()).getTasks(any(), any(), any());
+    }
+
+    @Test
+    void lookupTasks_withIdsInBody_returnsTasks() throws Exception {
+        // Arrange
+        Task task = createValidTask();
+        when(taskService.getTasksById(List.of(1L))).thenReturn(new TaskLookupResult(List.of(task), List.of()));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1]"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(varyByAccept())
+                .andExpect(jsonPath("$.tasks[0].title").value("Test Task"))
+                .andExpect(jsonPath("$.missing", hasSize(0)));
+    }
+
+    @Test
+    void lookupTasks_withTooManyIds_returns400() throws Exception {
+        // Arrange
+        when(taskService.getTasksById(any())).thenThrow(new BatchSizeExceededException(TaskService.MAX_BATCH_SIZE));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 2]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
     }
 
     // GET /api/tasks/{id} tests
@@ -115,20 +360,84 @@ class TaskControllerTest {
         verify(taskService, times(1)).getTaskById(1L);
     }
 
+    @Test
+    void getTaskById_returnsVersionAsETag() throws Exception {
+        // Arrange
+        Task task = createValidTask();
+        task.setVersion(7L);
+        when(taskService.getTaskById(1L)).thenReturn(task);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
+    @Test
+    void getTaskById_withMatchingIfNoneMatch_returns304WithoutBody() throws Exception {
+        // Arrange
+        Task task = createValidTask();
+        task.setVersion(7L);
+        when(taskService.getTaskById(1L)).thenReturn(task);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1").header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getAllTasks_withMatchingIfNoneMatch_returns304() throws Exception {
+        // Arrange
+        Task task = createValidTask();
+        task.setVersion(0L);
+        when(taskService.getTasks(TaskFilter.none(), null, null)).thenReturn(new TaskPage(List.of(task), null));
+
+        String etag = mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     void getTaskById_whenNotFound_returns404WithErrorMessage() throws Exception {
         // Arrange
-        when(taskService.getTaskById(999L)).thenThrow(new TaskNotFoundException(999L));
+        when(taskService.getTaskById(999L)).thenThrow(TaskNotFoundException.INSTANCE);
 
         // Act & Assert
         mockMvc.perform(get("/api/tasks/999"))
                 .andExpect(status().isNotFound())
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.title").value("Not Found"))
+                .andExpect(jsonPath("$.detail").value("Task not found"))
                 .andExpect(jsonPath("$.error").value("Task not found"));
 
         verify(taskService, times(1)).getTaskById(999L);
     }
 
+    @Test
+    void getTaskById_whenNotFound_countsErrorByStatus() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(999L)).thenThrow(TaskNotFoundException.INSTANCE);
+        double before = meterRegistry.get("taskmanager.errors").tag("status", "404").counter().count();
+
+        // Act
+        mockMvc.perform(get("/api/tasks/999"))
+                .andExpect(status().isNotFound());
+
+        // Assert
+        assertThat(meterRegistry.get("taskmanager.errors").tag("status", "404").counter().count())
+                .isEqualTo(before + 1);
+    }
+
     // POST /api/tasks tests
 
     @Test
@@ -163,7 +472,8 @@ class TaskControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(task)))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(400))
                 .andExpect(jsonPath("$.errors.title").exists());
 
         verify(taskService, never()).createTask(any(Task.class));
@@ -180,7 +490,7 @@ class TaskControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(task)))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
                 .andExpect(jsonPath("$.errors.title").exists());
 
         verify(taskService, never()).createTask(any(Task.class));
@@ -197,7 +507,7 @@ class TaskControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(task)))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
                 .andExpect(jsonPath("$.errors.status").exists());
 
         verify(taskService, never()).createTask(any(Task.class));
@@ -237,7 +547,7 @@ class TaskControllerTest {
         Task updateTask = createValidTask();
         updateTask.setTitle("Updated Task");
 
-        when(taskService.updateTask(eq(1L), any(Task.class))).thenReturn(updateTask);
+        when(taskService.updateTask(eq(1L), any(Task.class), any())).thenReturn(updateTask);
 
         // Act & Assert
         mockMvc.perform(put("/api/tasks/1")
@@ -248,15 +558,61 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.title").value("Updated Task"));
 
-        verify(taskService, times(1)).updateTask(eq(1L), any(Task.class));
+        verify(taskService, times(1)).updateTask(eq(1L), any(Task.class), any());
+    }
+
+    @Test
+    void updateTask_withIfMatch_passesExpectedVersionToService() throws Exception {
+        // Arrange
+        Task updateTask = createValidTask();
+        updateTask.setVersion(4L);
+        when(taskService.updateTask(eq(1L), any(Task.class), eq(3L))).thenReturn(updateTask);
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateTask)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+        verify(taskService, times(1)).updateTask(eq(1L), any(Task.class), eq(3L));
+    }
+
+    @Test
+    void updateTask_withStaleIfMatch_returns412() throws Exception {
+        // Arrange
+        Task updateTask = createValidTask();
+        when(taskService.updateTask(eq(1L), any(Task.class), eq(3L)))
+                .thenThrow(new TaskVersionMismatchException());
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateTask)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error").value("Task has been modified"));
+    }
+
+    @Test
+    void updateTask_withMalformedIfMatch_returns412() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/1")
+                        .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createValidTask())))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(taskService, never()).updateTask(any(), any(), any());
     }
 
     @Test
     void updateTask_whenNotFound_returns404() throws Exception {
         // Arrange
         Task updateTask = createValidTask();
-        when(taskService.updateTask(eq(999L), any(Task.class)))
-                .thenThrow(new TaskNotFoundException(999L));
+        when(taskService.updateTask(eq(999L), any(Task.class), any()))
+                .thenThrow(TaskNotFoundException.INSTANCE);
 
         // Act & Assert
         mockMvc.perform(put("/api/tasks/999")
@@ -265,7 +621,7 @@ class TaskControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.error").value("Task not found"));
 
-        verify(taskService, times(1)).updateTask(eq(999L), any(Task.class));
+        verify(taskService, times(1)).updateTask(eq(999L), any(Task.class), any());
     }
 
     @Test
@@ -281,7 +637,7 @@ class TaskControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.errors.title").exists());
 
-        verify(taskService, never()).updateTask(any(), any());
+        verify(taskService, never()).updateTask(any(), any(), any());
     }
 
     @Test
@@ -297,7 +653,113 @@ class TaskControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.errors.description").exists());
 
-        verify(taskService, never()).updateTask(any(), any());
+        verify(taskService, never()).updateTask(any(), any(), any());
+    }
+
+    // PATCH /api/tasks/{id} tests
+
+    @Test
+    void patchTask_withMergePatch_passesOnlyPresentFieldsToService() throws Exception {
+        // Arrange
+        Task patchedTask = createValidTask();
+        patchedTask.setStatus(TaskStatus.DONE);
+        patchedTask.setVersion(4L);
+        when(taskService.patchTask(eq(1L), any(TaskPatch.class), eq(3L))).thenReturn(patchedTask);
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"status\": \"DONE\", \"dueDate\": null}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.status").value("DONE"));
+
+        verify(taskService).patchTask(eq(1L), argThat(taskPatch ->
+                taskPatch.fields().equals(Set.of("status", "dueDate"))
+                        && taskPatch.values().getStatus() == TaskStatus.DONE
+                        && taskPatch.values().getDueDate() == null), eq(3L));
+    }
+
+    @Test
+    void patchTask_withReadOnlyField_returns400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/1")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"id\": 2, \"title\": \"New\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.id").value("Field cannot be patched"));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void patchTask_withInvalidStatus_returns400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"ARCHIVED\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.status").value("Invalid value"));
+
+        verifyNoInteractions(taskService);
+    }
+
+    // POST /api/tasks/{id}/status tests
+
+    @Test
+    void changeStatus_returnsChangedTaskWithETag() throws Exception {
+        // Arrange
+        Task changedTask = createValidTask();
+        changedTask.setStatus(TaskStatus.DONE);
+        changedTask.setVersion(2L);
+        when(taskService.changeStatus(1L, TaskStatus.DONE, TaskStatus.TODO)).thenReturn(changedTask);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/1/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"DONE\", \"expectedStatus\": \"TODO\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(jsonPath("$.status").value("DONE"));
+    }
+
+    @Test
+    void changeStatus_whenStatusDiffers_returns409() throws Exception {
+        // Arrange
+        when(taskService.changeStatus(1L, TaskStatus.DONE, TaskStatus.TODO))
+                .thenThrow(new TaskStatusConflictException(TaskStatus.TODO));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/1/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"DONE\", \"expectedStatus\": \"TODO\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Task is not in status TODO"));
+    }
+
+    @Test
+    void changeStatus_whenNotFound_returns404() throws Exception {
+        // Arrange
+        when(taskService.changeStatus(999L, TaskStatus.DONE, null)).thenThrow(TaskNotFoundException.INSTANCE);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/999/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"DONE\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void changeStatus_withoutStatus_returns400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/1/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.status").value("Status is required"));
+
+        verifyNoInteractions(taskService);
     }
 
     // DELETE /api/tasks/{id} tests
@@ -317,7 +779,7 @@ class TaskControllerTest {
     @Test
     void deleteTask_whenNotFound_returns404() throws Exception {
         // Arrange
-        doThrow(new TaskNotFoundException(999L)).when(taskService).deleteTask(999L);
+        doThrow(TaskNotFoundException.INSTANCE).when(taskService).deleteTask(999L);
 
         // Act & Assert
         mockMvc.perform(delete("/api/tasks/999"))
@@ -327,6 +789,289 @@ class TaskControllerTest {
         verify(taskService, times(1)).deleteTask(999L);
     }
 
+    // Batch endpoint tests
+
+    @Test
+    void createTasks_returnsPerItemResults() throws Exception {
+        // Arrange
+        Task created = createValidTask();
+        BatchResult batchResult = BatchResult.of(List.of(
+                BatchItemResult.success(0, HttpStatus.CREATED, created),
+                BatchItemResult.failure(1, null, HttpStatus.BAD_REQUEST, Map.of("title", "Title is required"))));
+        when(taskService.createTasks(any())).thenReturn(batchResult);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(createTaskWithoutId(), new Task()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[0].task.title").value("Test Task"))
+                .andExpect(jsonPath("$.results[1].status").value(400))
+                .andExpect(jsonPath("$.results[1].errors.title").value("Title is required"))
+                .andExpect(jsonPath("$.results[1].task").doesNotExist());
+
+        verify(taskService, times(1)).createTasks(argThat(tasks -> tasks.size() == 2));
+    }
+
+    @Test
+    void createTasks_whenBatchTooLarge_returns400() throws Exception {
+        // Arrange
+        when(taskService.createTasks(any())).thenThrow(new BatchSizeExceededException(1000));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Batch must not contain more than 1000 items"));
+    }
+
+    @Test
+    void deleteTasks_returnsPerItemResults() throws Exception {
+        // Arrange
+        BatchResult batchResult = BatchResult.of(List.of(
+                BatchItemResult.deleted(0, 1L),
+                BatchItemResult.failure(1, 999L, HttpStatus.NOT_FOUND, Map.of("id", "Task not found"))));
+        when(taskService.deleteTasks(List.of(1L, 999L))).thenReturn(batchResult);
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 999]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value(204))
+                .andExpect(jsonPath("$.results[1].status").value(404))
+                .andExpect(jsonPath("$.results[1].id").value(999));
+    }
+
+    // Ingestion tests
+
+    @Test
+    void ingestTasks_returns202WithStatusLocation() throws Exception {
+        // Arrange
+        when(taskIngestionService.submit(any()))
+                .thenReturn(new IngestionStatus("abc", 2, 0, 0, false, List.of()));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/ingest")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(createTaskWithoutId(), createTaskWithoutId()))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/tasks/ingest/abc"))
+                .andExpect(jsonPath("$.id").value("abc"))
+                .andExpect(jsonPath("$.submitted").value(2))
+                .andExpect(jsonPath("$.completed").value(false));
+
+        verify(taskIngestionService, times(1)).submit(argThat(tasks -> tasks.size() == 2));
+    }
+
+    @Test
+    void ingestTasks_whenQueueFull_returns429() throws Exception {
+        // Arrange
+        when(taskIngestionService.submit(any())).thenThrow(new IngestionQueueFullException());
+        double before = meterRegistry.get("taskmanager.errors").tag("status", "429").counter().count();
+
+        // Act
+        mockMvc.perform(post("/api/tasks/ingest")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(createTaskWithoutId()))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.error").value("Ingestion queue is full, retry later"));
+
+        // Assert
+        assertThat(meterRegistry.get("taskmanager.errors").tag("status", "429").counter().count())
+                .isEqualTo(before + 1);
+    }
+
+    @Test
+    void getIngestionStatus_returnsProgress() throws Exception {
+        // Arrange
+        IngestionStatus ingestionStatus = new IngestionStatus("abc", 2, 1, 1, true, List.of(
+                BatchItemResult.failure(1, null, HttpStatus.BAD_REQUEST, Map.of("title", "Title is required"))));
+        when(taskIngestionService.getStatus("abc")).thenReturn(ingestionStatus);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/ingest/abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.written").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.failures[0].index").value(1))
+                .andExpect(jsonPath("$.failures[0].errors.title").value("Title is required"));
+    }
+
+    @Test
+    void getIngestionStatus_whenUnknown_returns404() throws Exception {
+        // Arrange
+        when(taskIngestionService.getStatus("nope")).thenThrow(new IngestionNotFoundException());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/ingest/nope"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Ingestion not found"));
+    }
+
+    // Serialized list cache tests
+
+    @Test
+    void getAllTasks_withListCacheEnabled_returnsCachedBytes() throws Exception {
+        // Arrange
+        when(taskListCache.isEnabled()).thenReturn(true);
+        byte[] body = objectMapper.writeValueAsBytes(List.of(createValidTask()));
+        when(taskListCache.getPage(eq(new TaskFilter(TaskStatus.TODO, null, null)), isNull(), eq(1),
+                eq(MediaType.APPLICATION_JSON), any()))
+                .thenReturn(new TaskListCache.CachedPage(body, "\"abc\"", 1L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").param("status", "TODO").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""))
+                .andExpect(header().string(HttpHeaders.LINK, "</api/tasks?status=TODO&limit=1&cursor=1>; rel=\"next\""))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("Test Task"));
+
+        verify(taskService, never()).getTasks(any(), any(), any());
+    }
+
+    @Test
+    void getAllTasks_withListCacheEnabledAndMatchingIfNoneMatch_returns304() throws Exception {
+        // Arrange
+        when(taskListCache.isEnabled()).thenReturn(true);
+        when(taskListCache.getPage(any(), any(), any(), any(), any()))
+                .thenReturn(new TaskListCache.CachedPage(new byte[] {'[', ']'}, "\"abc\"", null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getAllTasks_withListCacheEnabledAndCborAccept_requestsCborPage() throws Exception {
+        // Arrange
+        when(taskListCache.isEnabled()).thenReturn(true);
+        byte[] body = cborMapper.writeValueAsBytes(List.of(createValidTask()));
+        when(taskListCache.getPage(any(), any(), any(), eq(MediaType.APPLICATION_CBOR), any()))
+                .thenReturn(new TaskListCache.CachedPage(body, "\"abc\"", null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(content().bytes(body));
+    }
+
+    // Binary format tests
+
+    @Test
+    void getTaskById_withCborAccept_returnsCompactBinaryTask() throws Exception {
+        // Arrange
+        Task task = createValidTask();
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setVersion(3L);
+        when(taskService.getTaskById(1L)).thenReturn(task);
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/tasks/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Assert
+        JsonNode node = cborMapper.readTree(body);
+        assertThat(node.get("status").isInt()).isTrue();
+        assertThat(node.get("status").intValue()).isEqualTo(TaskStatus.IN_PROGRESS.ordinal());
+        assertThat(node.get("dueDate").longValue()).isEqualTo(LocalDate.of(2026, 1, 15).toEpochDay());
+        assertThat(cborMapper.readValue(body, Task.class)).isEqualTo(task);
+    }
+
+    @Test
+    void getAllTasks_withCborAccept_isSmallerThanJson() throws Exception {
+        // Arrange
+        Task task1 = createValidTask();
+        Task task2 = createValidTask();
+        task2.setId(2L);
+        when(taskService.getTasks(TaskFilter.none(), null, null)).thenReturn(new TaskPage(List.of(task1, task2), null));
+
+        // Act
+        byte[] json = mockMvc.perform(get("/api/tasks"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] cbor = mockMvc.perform(get("/api/tasks").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        assertThat(cborMapper.readValue(cbor, Task[].class)).containsExactly(task1, task2);
+        assertThat(cbor.length).isLessThan(json.length);
+    }
+
+    // Other Vary values (e.g. from CORS processing) may be present as well
+    private static ResultMatcher varyByAccept() {
+        return result -> assertThat(result.getResponse().getHeaders(HttpHeaders.VARY))
+                .flatMap(vary -> Arrays.stream(vary.split(",")).map(String::trim).toList())
+                .contains(HttpHeaders.ACCEPT);
+    }
+
+    @Test
+    void negotiatedResponses_varyByAccept() throws Exception {
+        // Arrange
+        Task task = createValidTask();
+        task.setVersion(3L);
+        when(taskService.getTaskById(1L)).thenReturn(task);
+        when(taskService.getTasks(TaskFilter.none(), null, null)).thenReturn(new TaskPage(List.of(task), null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(varyByAccept());
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(varyByAccept());
+        mockMvc.perform(get("/api/tasks/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(varyByAccept());
+    }
+
+    @Test
+    void createTask_withCborBody_returns201() throws Exception {
+        // Arrange
+        Task inputTask = createTaskWithoutId();
+        Task createdTask = createValidTask();
+        when(taskService.createTask(any(Task.class))).thenReturn(createdTask);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(inputTask)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value("TODO"))
+                .andExpect(jsonPath("$.dueDate").value("2026-01-15"));
+
+        verify(taskService, times(1)).createTask(inputTask);
+    }
+
+    @Test
+    void createTask_withUnknownStatusOrdinal_returns400() throws Exception {
+        // Arrange
+        byte[] body = cborMapper.writeValueAsBytes(Map.of("title", "Test Task", "status", 9));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).createTask(any(Task.class));
+    }
+
     // Edge case tests
 
     @Test
@@ -361,7 +1106,7 @@ class TaskControllerTest {
         task.setStatus(TaskStatus.TODO);
         task.setDueDate(null);
 
-        when(taskService.updateTask(eq(1L), any(Task.class))).thenReturn(task);
+        when(taskService.updateTask(eq(1L), any(Task.class), any())).thenReturn(task);
 
         // Act & Assert
         mockMvc.perform(put("/api/tasks/1")
@@ -372,7 +1117,7 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.title").value("Task with nulls"))
                 .andExpect(jsonPath("$.status").value("TODO"));
 
-        verify(taskService, times(1)).updateTask(eq(1L), any(Task.class));
+        verify(taskService, times(1)).updateTask(eq(1L), any(Task.class), any());
     }
 
 }
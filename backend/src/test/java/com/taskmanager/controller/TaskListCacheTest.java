@@ -0,0 +1,88 @@
+package com.taskmanager.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.config.WebConfig;
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.dto.TaskPage;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskListCacheTest {
+
+    private final ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cborMapper = WebConfig.cborMapper(Jackson2ObjectMapperBuilder.json());
+    private final TaskListCache cache = new TaskListCache(jsonMapper,
+            new MappingJackson2CborHttpMessageConverter(cborMapper), new SimpleMeterRegistry(),
+            true, DataSize.ofMegabytes(1));
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Task task = new Task(1L, "Test Task", null, TaskStatus.TODO, LocalDate.of(2026, 1, 15), 0L);
+
+    private final Supplier<TaskPage> loader = () -> {
+        loads.incrementAndGet();
+        return new TaskPage(List.of(task), null);
+    };
+
+    @Test
+    void getPage_whenUnchanged_loadsOnce() throws Exception {
+        // Act
+        TaskListCache.CachedPage first = cache.getPage(TaskFilter.none(), null, null, MediaType.APPLICATION_JSON, loader);
+        TaskListCache.CachedPage second = cache.getPage(TaskFilter.none(), null, null, MediaType.APPLICATION_JSON, loader);
+
+        // Assert
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(jsonMapper.readValue(first.body(), Task[].class)).containsExactly(task);
+        assertThat(first.etag()).isEqualTo(TaskETags.of(new TaskPage(List.of(task), null)));
+    }
+
+    @Test
+    void getPage_keysByListingAndFormat() throws Exception {
+        // Act
+        cache.getPage(TaskFilter.none(), null, null, MediaType.APPLICATION_JSON, loader);
+        cache.getPage(TaskFilter.none(), null, 10, MediaType.APPLICATION_JSON, loader);
+        TaskListCache.CachedPage cbor = cache.getPage(TaskFilter.none(), null, null, MediaType.APPLICATION_CBOR, loader);
+
+        // Assert
+        assertThat(loads).hasValue(3);
+        assertThat(cborMapper.readValue(cbor.body(), Task[].class)).containsExactly(task);
+    }
+
+    @Test
+    void getPage_afterCommittedWrite_reloads() {
+        // Arrange
+        cache.getPage(TaskFilter.none(), null, null, MediaType.APPLICATION_JSON, loader);
+
+        // Act
+        cache.onTaskChanged(TaskChangedEvent.deleted(task));
+        cache.getPage(TaskFilter.none(), null, null, MediaType.APPLICATION_JSON, loader);
+
+        // Assert
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void format_followsAcceptHeader() {
+        // Act & Assert
+        assertThat(TaskListCache.format(null)).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(TaskListCache.format("*/*")).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(TaskListCache.format("application/cbor")).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(TaskListCache.format("application/json;q=0.5, application/cbor")).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(TaskListCache.format("text/html")).isNull();
+    }
+
+}
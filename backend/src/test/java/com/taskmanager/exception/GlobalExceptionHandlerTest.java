@@ -0,0 +1,39 @@
+package com.taskmanager.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(meterRegistry, new ObjectMapper());
+
+    private double errors(HttpStatus status) {
+        return meterRegistry.get("taskmanager.errors").tag("status", Integer.toString(status.value())).counter().count();
+    }
+
+    @Test
+    void constructor_registersCountersOfHandledStatuses() {
+        // Assert
+        assertThat(errors(HttpStatus.NOT_FOUND)).isZero();
+        assertThat(errors(HttpStatus.TOO_MANY_REQUESTS)).isZero();
+    }
+
+    @Test
+    void error_withStatusNotRegisteredUpFront_countsIt() {
+        // Act
+        ResponseEntity<byte[]> response = handler.error(HttpStatus.SERVICE_UNAVAILABLE, "Try again later");
+        handler.error(HttpStatus.SERVICE_UNAVAILABLE, "Try again later");
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).isNotEmpty();
+        assertThat(errors(HttpStatus.SERVICE_UNAVAILABLE)).isEqualTo(2);
+    }
+
+}
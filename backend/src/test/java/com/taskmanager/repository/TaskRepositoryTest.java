@@ -1,5 +1,6 @@
 package com.taskmanager.repository;
 
+import com.taskmanager.dto.TaskFilter;
 import com.taskmanager.model.Task;
 import com.taskmanager.model.TaskStatus;
 import org.junit.jupiter.api.Test;
@@ -97,6 +98,191 @@ class TaskRepositoryTest {
                 .containsExactlyInAnyOrder("Test Task", "Task 2");
     }
 
+    @Test
+    void findPage_returnsTasksAfterCursorOrderedById() {
+        // Arrange
+        Task task1 = entityManager.persist(createValidTask());
+        Task task2 = entityManager.persist(createValidTask());
+        Task task3 = entityManager.persist(createValidTask());
+        entityManager.flush();
+
+        // Act
+        List<Task> firstPage = taskRepository.findPage(TaskFilter.none(), null, 2);
+        List<Task> secondPage = taskRepository.findPage(TaskFilter.none(), firstPage.get(1).getId(), 2);
+
+        // Assert
+        assertThat(firstPage)
+                .extracting(Task::getId)
+                .containsExactly(task1.getId(), task2.getId());
+        assertThat(secondPage)
+                .extracting(Task::getId)
+                .containsExactly(task3.getId());
+    }
+
+    @Test
+    void findPage_withStatusAndDueDateRange_returnsOnlyMatchingTasks() {
+        // Arrange
+        Task matching = createValidTask();
+        matching.setStatus(TaskStatus.IN_PROGRESS);
+        matching.setDueDate(LocalDate.of(2026, 3, 10));
+
+        Task wrongStatus = createValidTask();
+        wrongStatus.setDueDate(LocalDate.of(2026, 3, 10));
+
+        Task tooLate = createValidTask();
+        tooLate.setStatus(TaskStatus.IN_PROGRESS);
+        tooLate.setDueDate(LocalDate.of(2026, 4, 1));
+
+        Task noDueDate = createValidTask();
+        noDueDate.setStatus(TaskStatus.IN_PROGRESS);
+        noDueDate.setDueDate(null);
+
+        entityManager.persist(matching);
+        entityManager.persist(wrongStatus);
+        entityManager.persist(tooLate);
+        entityManager.persist(noDueDate);
+        entityManager.flush();
+
+        TaskFilter filter = new TaskFilter(TaskStatus.IN_PROGRESS, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+
+        // Act
+        List<Task> tasks = taskRepository.findPage(filter, null, 10);
+
+        // Assert
+        assertThat(tasks)
+                .extracting(Task::getId)
+                .containsExactly(matching.getId());
+    }
+
+    @Test
+    void findPage_withOverdue_returnsOnlyOpenTasksDueBeforeToday() {
+        // Arrange
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        Task overdue = createValidTask();
+        overdue.setStatus(TaskStatus.IN_PROGRESS);
+        overdue.setDueDate(yesterday);
+
+        Task done = createValidTask();
+        done.setStatus(TaskStatus.DONE);
+        done.setDueDate(yesterday);
+
+        Task dueToday = createValidTask();
+        dueToday.setDueDate(LocalDate.now());
+
+        Task noDueDate = createValidTask();
+        noDueDate.setDueDate(null);
+
+        entityManager.persist(overdue);
+        entityManager.persist(done);
+        entityManager.persist(dueToday);
+        entityManager.persist(noDueDate);
+        entityManager.flush();
+
+        // Act
+        List<Task> tasks = taskRepository.findPage(new TaskFilter(null, null, null, true), null, 10);
+
+        // Assert
+        assertThat(tasks)
+                .extracting(Task::getId)
+                .containsExactly(overdue.getId());
+    }
+
+    @Test
+    void countByStatus_countsOnlyTasksWithThatStatus() {
+        // Arrange
+        Task done = createValidTask();
+        done.setStatus(TaskStatus.DONE);
+        entityManager.persist(createValidTask());
+        entityManager.persist(createValidTask());
+        entityManager.persist(done);
+        entityManager.flush();
+
+        // Act & Assert
+        assertThat(taskRepository.countByStatus(TaskStatus.TODO)).isEqualTo(2);
+        assertThat(taskRepository.countByStatus(TaskStatus.DONE)).isEqualTo(1);
+        assertThat(taskRepository.countByStatus(TaskStatus.IN_PROGRESS)).isZero();
+    }
+
+    @Test
+    void countByStatusInAndDueDateBefore_countsMatchingTasks() {
+        // Arrange
+        Task early = createValidTask();
+        early.setDueDate(LocalDate.of(2026, 1, 1));
+        Task earlyDone = createValidTask();
+        earlyDone.setStatus(TaskStatus.DONE);
+        earlyDone.setDueDate(LocalDate.of(2026, 1, 1));
+        Task late = createValidTask();
+        late.setDueDate(LocalDate.of(2026, 6, 1));
+        entityManager.persist(early);
+        entityManager.persist(earlyDone);
+        entityManager.persist(late);
+        entityManager.flush();
+
+        // Act
+        long count = taskRepository.countByStatusInAndDueDateBefore(TaskStatus.OPEN, LocalDate.of(2026, 2, 1));
+
+        // Assert
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    void updateStatus_atCurrentVersion_updatesStatusAndBumpsVersion() {
+        // Arrange
+        Task task = entityManager.persistAndFlush(createValidTask());
+        entityManager.clear();
+
+        // Act
+        int updated = taskRepository.updateStatus(task.getId(), task.getVersion(), TaskStatus.DONE);
+
+        // Assert
+        assertThat(updated).isEqualTo(1);
+        Task reloaded = entityManager.find(Task.class, task.getId());
+        assertThat(reloaded.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(reloaded.getVersion()).isEqualTo(task.getVersion() + 1);
+    }
+
+    @Test
+    void updateStatus_atOtherVersionOrUnknownId_updatesNothing() {
+        // Arrange
+        Task task = entityManager.persistAndFlush(createValidTask());
+        entityManager.clear();
+
+        // Act & Assert
+        assertThat(taskRepository.updateStatus(task.getId(), task.getVersion() + 1, TaskStatus.DONE)).isZero();
+        assertThat(taskRepository.updateStatus(-1L, 0L, TaskStatus.DONE)).isZero();
+        assertThat(entityManager.find(Task.class, task.getId()).getStatus()).isEqualTo(TaskStatus.TODO);
+    }
+
+    @Test
+    void findAllByIdForUpdate_returnsOnlyExistingTasks() {
+        // Arrange
+        Task task = entityManager.persistAndFlush(createValidTask());
+
+        // Act
+        List<Task> found = taskRepository.findAllByIdForUpdate(List.of(task.getId(), -1L));
+
+        // Assert
+        assertThat(found).extracting(Task::getId).containsExactly(task.getId());
+    }
+
+    @Test
+    void deleteAllByIdIn_returnsNumberOfDeletedRows() {
+        // Arrange
+        Task first = entityManager.persist(createValidTask());
+        Task second = entityManager.persist(createValidTask());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        int deleted = taskRepository.deleteAllByIdIn(List.of(first.getId(), second.getId(), -1L));
+
+        // Assert
+        assertThat(deleted).isEqualTo(2);
+        assertThat(taskRepository.deleteAllByIdIn(List.of(first.getId()))).isZero();
+        assertThat(taskRepository.findAllById(List.of(first.getId(), second.getId()))).isEmpty();
+    }
+
     @Test
     void delete_removesTaskFromDatabase() {
         // Arrange
@@ -215,4 +401,21 @@ class TaskRepositoryTest {
         assertThat(refetchedTask.get().getStatus()).isEqualTo(TaskStatus.DONE);
     }
 
+    @Test
+    void save_andUpdate_incrementsVersion() {
+        // Arrange
+        Task savedTask = taskRepository.save(createValidTask());
+        entityManager.flush();
+        Long initialVersion = savedTask.getVersion();
+
+        // Act
+        savedTask.setTitle("Updated Title");
+        taskRepository.save(savedTask);
+        entityManager.flush();
+
+        // Assert
+        assertThat(initialVersion).isNotNull();
+        assertThat(savedTask.getVersion()).isEqualTo(initialVersion + 1);
+    }
+
 }
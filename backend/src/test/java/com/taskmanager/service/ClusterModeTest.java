@@ -0,0 +1,146 @@
+package com.taskmanager.service;
+
+import com.taskmanager.TaskManagerApplication;
+import com.taskmanager.exception.TaskNotFoundException;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two instances in clustered mode, sharing one in-memory database, as separate application contexts
+ * in this JVM.
+ */
+class ClusterModeTest {
+
+    private static ConfigurableApplicationContext first;
+    private static ConfigurableApplicationContext second;
+
+    @BeforeAll
+    static void startInstances() {
+        first = startInstance();
+        second = startInstance();
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        second.close();
+        first.close();
+    }
+
+    private static ConfigurableApplicationContext startInstance() {
+        return new SpringApplicationBuilder(TaskManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:cluster;DB_CLOSE_DELAY=-1",
+                        "--taskmanager.cluster.enabled=true",
+                        "--taskmanager.cluster.poll-interval=50ms",
+                        "--spring.main.banner-mode=off");
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5s").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static Task createValidTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.TODO);
+        task.setDueDate(LocalDate.of(2026, 1, 15));
+        return task;
+    }
+
+    @Test
+    void updateOnOneInstance_replacesCachedTaskOnTheOther() throws Exception {
+        // Arrange
+        TaskService firstService = first.getBean(TaskService.class);
+        TaskService secondService = second.getBean(TaskService.class);
+        Task task = firstService.createTask(createValidTask("Original title"));
+        assertThat(secondService.getTaskById(task.getId()).getTitle()).isEqualTo("Original title");
+
+        // Act
+        Task details = createValidTask("Renamed on first");
+        details.setStatus(TaskStatus.DONE);
+        firstService.updateTask(task.getId(), details, null);
+
+        // Assert
+        awaitTrue(() -> secondService.getTaskById(task.getId()).getTitle().equals("Renamed on first"));
+        assertThat(secondService.getTaskById(task.getId()).getStatus()).isEqualTo(TaskStatus.DONE);
+    }
+
+    @Test
+    void deleteOnOneInstance_evictsTaskOnTheOther() throws Exception {
+        // Arrange
+        TaskService firstService = first.getBean(TaskService.class);
+        TaskService secondService = second.getBean(TaskService.class);
+        Task task = secondService.createTask(createValidTask("Short-lived"));
+        secondService.getTaskById(task.getId());
+
+        // Act
+        firstService.deleteTask(task.getId());
+
+        // Assert
+        awaitTrue(() -> {
+            try {
+                secondService.getTaskById(task.getId());
+                return false;
+            } catch (TaskNotFoundException e) {
+                return true;
+            }
+        });
+    }
+
+    @Test
+    void createOnOneInstance_updatesStatisticsAndSearchOnBoth() throws Exception {
+        // Arrange
+        TaskStatistics firstStatistics = first.getBean(TaskStatistics.class);
+        TaskStatistics secondStatistics = second.getBean(TaskStatistics.class);
+        long total = first.getBean(TaskRepository.class).count();
+        // Changes made by other tests may still be propagating
+        awaitTrue(() -> firstStatistics.getStats().total() == total && secondStatistics.getStats().total() == total);
+
+        // Act
+        first.getBean(TaskService.class).createTask(createValidTask("Clustered zebra"));
+
+        // Assert
+        TaskService secondService = second.getBean(TaskService.class);
+        awaitTrue(() -> secondService.searchTasks("zebra", 0, null).total() == 1);
+        awaitTrue(() -> secondStatistics.getStats().total() == total + 1);
+
+        // The writing instance must not apply its own change a second time from the log
+        Thread.sleep(200);
+        assertThat(firstStatistics.getStats().total()).isEqualTo(total + 1);
+    }
+
+    @Test
+    void instanceStartedAfterWrites_countsEachTaskOnce() throws Exception {
+        // Arrange
+        TaskService firstService = first.getBean(TaskService.class);
+        for (int i = 0; i < 3; i++) {
+            firstService.createTask(createValidTask("Before start " + i));
+        }
+        long total = first.getBean(TaskRepository.class).count();
+
+        // Act
+        try (ConfigurableApplicationContext third = startInstance()) {
+            // Assert: the changes already in the log are not replayed on top of the seeded counts
+            Thread.sleep(200);
+            assertThat(third.getBean(TaskStatistics.class).getStats().total()).isEqualTo(total);
+        }
+    }
+
+}
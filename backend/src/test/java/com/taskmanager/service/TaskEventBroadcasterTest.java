@@ -0,0 +1,166 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskEventBroadcasterTest {
+
+    private final TaskEventBroadcaster broadcaster = new TaskEventBroadcaster(
+            JsonMapper.builder().findAndAddModules().build(), 3, Duration.ofMinutes(1), Duration.ofMinutes(1), 2, 1);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    private Task createTask(Long id) {
+        return new Task(id, "Test Task", null, TaskStatus.TODO, LocalDate.of(2026, 1, 15), 0L);
+    }
+
+    // Records what is sent to it; with a release latch, every send blocks until it opens, like a client
+    // that stopped reading
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<SseEventBuilder> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder event) throws IOException {
+            sent.add(event);
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+            super.complete();
+        }
+
+        SseEventBuilder next() throws InterruptedException {
+            return sent.poll(5, TimeUnit.SECONDS);
+        }
+
+    }
+
+    @Test
+    void eventsAfter_returnsLaterEventsInOrder() {
+        // Arrange
+        broadcaster.onTaskChanged(TaskChangedEvent.created(createTask(1L)));
+        broadcaster.onTaskChanged(TaskChangedEvent.created(createTask(2L)));
+        broadcaster.onTaskChanged(TaskChangedEvent.deleted(createTask(1L)));
+
+        // Act
+        List<TaskEventBroadcaster.ReplayEntry> missed = broadcaster.eventsAfter(1);
+
+        // Assert
+        assertThat(missed)
+                .extracting(TaskEventBroadcaster.ReplayEntry::id)
+                .containsExactly(2L, 3L);
+        assertThat(missed.get(0).data()).contains("\"type\":\"CREATED\"", "\"id\":2", "\"task\":");
+        assertThat(missed.get(1).data()).isEqualTo("{\"type\":\"DELETED\",\"id\":1}");
+    }
+
+    @Test
+    void eventsAfter_whenUpToDate_returnsEmptyList() {
+        // Arrange
+        broadcaster.onTaskChanged(TaskChangedEvent.created(createTask(1L)));
+
+        // Act & Assert
+        assertThat(broadcaster.eventsAfter(1)).isEmpty();
+    }
+
+    @Test
+    void eventsAfter_whenEventsWereOverwritten_returnsNull() {
+        // Arrange
+        for (long id = 1; id <= 5; id++) {
+            broadcaster.onTaskChanged(TaskChangedEvent.created(createTask(id)));
+        }
+
+        // Act & Assert
+        assertThat(broadcaster.eventsAfter(1)).isNull();
+        assertThat(broadcaster.eventsAfter(2))
+                .extracting(TaskEventBroadcaster.ReplayEntry::id)
+                .containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    void onTaskChanged_withBlockedSubscriber_stillReachesOthers() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter blocked = new RecordingEmitter(release);
+        RecordingEmitter reading = new RecordingEmitter(new CountDownLatch(0));
+        broadcaster.subscribe(blocked, null);
+        broadcaster.subscribe(reading, null);
+        assertThat(blocked.next()).as("reset event").isNotNull();
+        assertThat(reading.next()).as("reset event").isNotNull();
+
+        // Act
+        broadcaster.onTaskChanged(TaskChangedEvent.created(createTask(1L)));
+        broadcaster.onTaskChanged(TaskChangedEvent.created(createTask(2L)));
+
+        // Assert
+        assertThat(reading.next()).isNotNull();
+        assertThat(reading.next()).isNotNull();
+        assertThat(blocked.completed.getCount()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    void onTaskChanged_whenSubscriberFallsTooFarBehind_dropsIt() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter blocked = new RecordingEmitter(release);
+        broadcaster.subscribe(blocked, null);
+        assertThat(blocked.next()).as("reset event").isNotNull();
+
+        // Act: two events fill its queue, the third one drops it
+        for (long id = 1; id <= 3; id++) {
+            broadcaster.onTaskChanged(TaskChangedEvent.created(createTask(id)));
+        }
+        // The dispatcher handles a later subscription after the events
+        RecordingEmitter later = new RecordingEmitter(new CountDownLatch(0));
+        broadcaster.subscribe(later, null);
+        assertThat(later.next()).as("reset event").isNotNull();
+        release.countDown();
+
+        // Assert
+        assertThat(blocked.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(blocked.sent).isEmpty();
+    }
+
+    @Test
+    void eventsAfter_withUnknownId_returnsNull() {
+        // Arrange
+        broadcaster.onTaskChanged(TaskChangedEvent.created(createTask(1L)));
+
+        // Act & Assert
+        assertThat(broadcaster.eventsAfter(7)).isNull();
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.BatchItemResult;
+import com.taskmanager.dto.BatchResult;
+import com.taskmanager.dto.IngestionStatus;
+import com.taskmanager.exception.BatchSizeExceededException;
+import com.taskmanager.exception.IngestionNotFoundException;
+import com.taskmanager.exception.IngestionQueueFullException;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskIngestionServiceTest {
+
+    @Mock
+    private TaskService taskService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // The flusher thread is not started; tests write synchronously via flush()
+    private TaskIngestionService createService(int queueCapacity, int batchSize) {
+        return new TaskIngestionService(taskService, meterRegistry, queueCapacity, batchSize,
+                Duration.ofMillis(200), Duration.ofHours(1));
+    }
+
+    private Task createTask(String title) {
+        return new Task(null, title, null, TaskStatus.TODO, null, null);
+    }
+
+    @Test
+    void submit_queuesTasksAndReturnsPendingStatus() {
+        // Arrange
+        TaskIngestionService ingestionService = createService(10, 5);
+
+        // Act
+        IngestionStatus status = ingestionService.submit(List.of(createTask("A"), createTask("B")));
+
+        // Assert
+        assertThat(status.id()).isNotBlank();
+        assertThat(status.submitted()).isEqualTo(2);
+        assertThat(status.written()).isZero();
+        assertThat(status.completed()).isFalse();
+        assertThat(meterRegistry.get("taskmanager.ingest.queue").gauge().value()).isEqualTo(2);
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void submit_whenQueueFull_throwsIngestionQueueFullException() {
+        // Arrange
+        TaskIngestionService ingestionService = createService(3, 5);
+        ingestionService.submit(List.of(createTask("A"), createTask("B")));
+
+        // Act & Assert
+        assertThatThrownBy(() -> ingestionService.submit(List.of(createTask("C"), createTask("D"))))
+                .isInstanceOf(IngestionQueueFullException.class);
+        assertThat(meterRegistry.get("taskmanager.ingest.queue").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void submit_whenTooLarge_throwsBatchSizeExceededException() {
+        // Arrange
+        TaskIngestionService ingestionService = createService(10_000, 500);
+        List<Task> tasks = Collections.nCopies(TaskService.MAX_BATCH_SIZE + 1, createTask("A"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> ingestionService.submit(tasks))
+                .isInstanceOf(BatchSizeExceededException.class);
+    }
+
+    @Test
+    void flush_writesInBatchesAndRecordsResults() {
+        // Arrange
+        TaskIngestionService ingestionService = createService(10, 2);
+        when(taskService.createTasks(any())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            return BatchResult.of(IntStream.range(0, tasks.size())
+                    .mapToObj(i -> tasks.get(i).getTitle() == null
+                            ? BatchItemResult.failure(i, null, HttpStatus.BAD_REQUEST, Map.of("title", "Title is required"))
+                            : BatchItemResult.success(i, HttpStatus.CREATED, tasks.get(i)))
+                    .toList());
+        });
+        String id = ingestionService.submit(List.of(createTask("A"), createTask(null), createTask("C"))).id();
+
+        // Act
+        ingestionService.flush();
+
+        // Assert
+        IngestionStatus status = ingestionService.getStatus(id);
+        assertThat(status.written()).isEqualTo(2);
+        assertThat(status.failed()).isEqualTo(1);
+        assertThat(status.completed()).isTrue();
+        assertThat(status.failures()).singleElement().satisfies(failure -> {
+            assertThat(failure.index()).isEqualTo(1);
+            assertThat(failure.errors()).containsEntry("title", "Title is required");
+        });
+        verify(taskService, times(2)).createTasks(any());
+    }
+
+    @Test
+    void flush_whenWriteFails_marksBatchFailedAndFreesCapacity() {
+        // Arrange
+        TaskIngestionService ingestionService = createService(2, 2);
+        when(taskService.createTasks(any())).thenThrow(new DataAccessResourceFailureException("down"));
+        String id = ingestionService.submit(List.of(createTask("A"), createTask("B"))).id();
+
+        // Act
+        ingestionService.flush();
+
+        // Assert
+        IngestionStatus status = ingestionService.getStatus(id);
+        assertThat(status.written()).isZero();
+        assertThat(status.failed()).isEqualTo(2);
+        assertThat(status.failures()).allSatisfy(failure -> assertThat(failure.status()).isEqualTo(500));
+        assertThat(ingestionService.submit(List.of(createTask("C"), createTask("D"))).submitted()).isEqualTo(2);
+    }
+
+    @Test
+    void getStatus_whenUnknown_throwsIngestionNotFoundException() {
+        // Arrange
+        TaskIngestionService ingestionService = createService(10, 5);
+
+        // Act & Assert
+        assertThatThrownBy(() -> ingestionService.getStatus("unknown"))
+                .isInstanceOf(IngestionNotFoundException.class)
+                .hasMessage("Ingestion not found");
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.CacheConfig;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskLoadCoalescerTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.TASKS_CACHE);
+    private final Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final Task task = new Task(1L, "Viral task", null, TaskStatus.TODO, LocalDate.of(2026, 1, 15), 0L);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private TaskLoadCoalescer createCoalescer(Duration resultWindow) {
+        TaskLookupBatcher lookupBatcher = new TaskLookupBatcher(taskRepository, meterRegistry, Duration.ZERO);
+        return new TaskLoadCoalescer(lookupBatcher, cacheManager, meterRegistry, resultWindow);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    // The next findById blocks until the returned latch is released; entered counts down once it is called
+    private CountDownLatch blockFindById(CountDownLatch entered, Optional<Task> result) {
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskRepository.findById(1L)).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return result;
+        });
+        return release;
+    }
+
+    @Test
+    void load_concurrentLookups_shareOneRead() throws Exception {
+        // Arrange
+        TaskLoadCoalescer coalescer = createCoalescer(Duration.ZERO);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = blockFindById(entered, Optional.of(task));
+        List<Future<Task>> lookups = new ArrayList<>();
+        lookups.add(executor.submit(() -> coalescer.load(1L)));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            lookups.add(executor.submit(() -> coalescer.load(1L)));
+        }
+        while (counter("taskmanager.lookups.coalesced") < 4) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // Assert
+        for (Future<Task> lookup : lookups) {
+            assertThat(lookup.get(5, TimeUnit.SECONDS)).isSameAs(task);
+        }
+        verify(taskRepository, times(1)).findById(1L);
+        assertThat(counter("taskmanager.lookups.loads")).isEqualTo(1);
+        assertThat(cache.get(1L, Task.class)).isSameAs(task);
+    }
+
+    @Test
+    void load_withinResultWindow_reusesUnknownIdResult() {
+        // Arrange
+        TaskLoadCoalescer coalescer = createCoalescer(Duration.ofMinutes(1));
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Act
+        Task first = coalescer.load(1L);
+        Task second = coalescer.load(1L);
+
+        // Assert
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(taskRepository, times(1)).findById(1L);
+        assertThat(counter("taskmanager.lookups.coalesced")).isEqualTo(1);
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    void load_withoutResultWindow_readsAgain() {
+        // Arrange
+        TaskLoadCoalescer coalescer = createCoalescer(Duration.ZERO);
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Act
+        coalescer.load(1L);
+        coalescer.load(1L);
+
+        // Assert
+        verify(taskRepository, times(2)).findById(1L);
+        assertThat(counter("taskmanager.lookups.coalesced")).isZero();
+    }
+
+    @Test
+    void onTaskChanged_endsResultWindow() {
+        // Arrange
+        TaskLoadCoalescer coalescer = createCoalescer(Duration.ofMinutes(1));
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty(), Optional.of(task));
+        coalescer.load(1L);
+
+        // Act
+        coalescer.onTaskChanged(TaskChangedEvent.created(task));
+        Task loaded = coalescer.load(1L);
+
+        // Assert
+        assertThat(loaded).isSameAs(task);
+        verify(taskRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void onTaskChanged_duringLoad_keepsOlderRowOutOfCache() throws Exception {
+        // Arrange
+        TaskLoadCoalescer coalescer = createCoalescer(Duration.ZERO);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = blockFindById(entered, Optional.of(task));
+        Future<Task> lookup = executor.submit(() -> coalescer.load(1L));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        Task renamed = new Task(1L, "Renamed", null, TaskStatus.TODO, null, 1L);
+        coalescer.onTaskChanged(TaskChangedEvent.updated(task, renamed));
+        release.countDown();
+
+        // Assert
+        assertThat(lookup.get(5, TimeUnit.SECONDS)).isSameAs(task);
+        assertThat(cache.get(1L)).isNull();
+    }
+
+}
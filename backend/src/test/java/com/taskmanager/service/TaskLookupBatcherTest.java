@@ -0,0 +1,111 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskLookupBatcherTest {
+
+    // Long enough for all lookups of a test to join the first one's batch
+    private static final Duration WINDOW = Duration.ofMillis(500);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static Task task(long id) {
+        return new Task(id, "Task " + id, null, TaskStatus.TODO, LocalDate.of(2026, 1, 15), 0L);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    @Test
+    void find_withoutWindow_readsAlone() {
+        // Arrange
+        TaskLookupBatcher batcher = new TaskLookupBatcher(taskRepository, meterRegistry, Duration.ZERO);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task(1L)));
+        when(taskRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThat(batcher.find(1L)).isEqualTo(task(1L));
+        assertThat(batcher.find(2L)).isNull();
+        verify(taskRepository, never()).findAllById(any());
+        assertThat(counter("taskmanager.lookups.batches")).isZero();
+    }
+
+    @Test
+    void find_lookupsWithinWindow_shareOneQuery() throws Exception {
+        // Arrange
+        TaskLookupBatcher batcher = new TaskLookupBatcher(taskRepository, meterRegistry, WINDOW);
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task(1L), task(2L)));
+
+        // Act
+        List<Future<Task>> lookups = new ArrayList<>();
+        for (long id : new long[] {1L, 2L, 3L, 1L}) {
+            lookups.add(executor.submit(() -> batcher.find(id)));
+        }
+
+        // Assert
+        assertThat(lookups.get(0).get(5, TimeUnit.SECONDS)).isEqualTo(task(1L));
+        assertThat(lookups.get(1).get(5, TimeUnit.SECONDS)).isEqualTo(task(2L));
+        assertThat(lookups.get(2).get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(lookups.get(3).get(5, TimeUnit.SECONDS)).isEqualTo(task(1L));
+        verify(taskRepository, times(1)).findAllById(any());
+        verify(taskRepository, never()).findById(any());
+        assertThat(counter("taskmanager.lookups.batches")).isEqualTo(1);
+        assertThat(counter("taskmanager.lookups.batched")).isEqualTo(3);
+    }
+
+    @Test
+    void find_whenQueryFails_failsEveryLookupOfTheBatch() {
+        // Arrange
+        TaskLookupBatcher batcher = new TaskLookupBatcher(taskRepository, meterRegistry, WINDOW);
+        when(taskRepository.findAllById(any())).thenThrow(new DataAccessResourceFailureException("down"));
+
+        // Act
+        Future<Task> first = executor.submit(() -> batcher.find(1L));
+        Future<Task> second = executor.submit(() -> batcher.find(2L));
+
+        // Assert
+        for (Future<Task> lookup : List.of(first, second)) {
+            assertThatThrownBy(() -> lookup.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(DataAccessResourceFailureException.class);
+        }
+        verify(taskRepository, times(1)).findAllById(any());
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchIndexTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskSearchIndex searchIndex;
+
+    private Task createTask(Long id, String title, String description) {
+        return new Task(id, title, description, TaskStatus.TODO, null, 0L);
+    }
+
+    @Test
+    void build_indexesAllTasksFromRepository() {
+        // Arrange
+        when(taskRepository.findPage(TaskFilter.none(), null, 1000))
+                .thenReturn(List.of(createTask(1L, "Write report", null), createTask(2L, "Review code", null)));
+
+        // Act
+        searchIndex.build();
+
+        // Assert
+        assertThat(searchIndex.search("report", 0, 10).ids()).containsExactly(1L);
+        assertThat(searchIndex.search("review", 0, 10).ids()).containsExactly(2L);
+    }
+
+    @Test
+    void search_matchesAllTermsCaseInsensitively() {
+        // Arrange
+        searchIndex.index(createTask(1L, "Quarterly Report", "Send to finance"));
+        searchIndex.index(createTask(2L, "Report bug", null));
+
+        // Act
+        TaskSearchIndex.Hits hits = searchIndex.search("REPORT, finance!", 0, 10);
+
+        // Assert
+        assertThat(hits.ids()).containsExactly(1L);
+        assertThat(hits.total()).isEqualTo(1);
+    }
+
+    @Test
+    void search_ranksTitleMatchesFirst() {
+        // Arrange
+        searchIndex.index(createTask(1L, "Groceries", "Buy milk"));
+        searchIndex.index(createTask(2L, "Milk", null));
+        searchIndex.index(createTask(3L, "Breakfast", "Milk and milk"));
+
+        // Act
+        TaskSearchIndex.Hits hits = searchIndex.search("milk", 0, 10);
+
+        // Assert
+        assertThat(hits.ids()).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void search_withOffset_returnsRequestedPageAndTotal() {
+        // Arrange
+        for (long id = 1; id <= 5; id++) {
+            searchIndex.index(createTask(id, "Task", null));
+        }
+
+        // Act
+        TaskSearchIndex.Hits hits = searchIndex.search("task", 2, 2);
+
+        // Assert
+        assertThat(hits.ids()).containsExactly(3L, 4L);
+        assertThat(hits.total()).isEqualTo(5);
+    }
+
+    @Test
+    void onTaskChanged_replacesAndRemovesPostings() {
+        // Arrange
+        Task task = createTask(1L, "Old title", null);
+        searchIndex.onTaskChanged(TaskChangedEvent.created(task));
+        Task updated = createTask(1L, "New title", null);
+        updated.setVersion(1L);
+
+        // Act
+        searchIndex.onTaskChanged(TaskChangedEvent.updated(task, updated));
+
+        // Assert
+        assertThat(searchIndex.search("old", 0, 10).total()).isZero();
+        assertThat(searchIndex.search("new", 0, 10).ids()).containsExactly(1L);
+
+        searchIndex.onTaskChanged(TaskChangedEvent.deleted(updated));
+        assertThat(searchIndex.search("title", 0, 10).total()).isZero();
+    }
+
+    @Test
+    void index_withOlderVersion_keepsNewerState() {
+        // Arrange
+        Task newer = createTask(1L, "Newer", null);
+        newer.setVersion(2L);
+        searchIndex.index(newer);
+
+        // Act
+        searchIndex.index(createTask(1L, "Older", null));
+
+        // Assert
+        assertThat(searchIndex.search("newer", 0, 10).ids()).containsExactly(1L);
+        assertThat(searchIndex.search("older", 0, 10).total()).isZero();
+    }
+
+    @Test
+    void onTaskChanged_updateArrivingAfterDelete_doesNotReindexTask() {
+        // Arrange
+        Task created = createTask(1L, "Original", null);
+        Task renamed = createTask(1L, "Renamed", null);
+        renamed.setVersion(1L);
+        searchIndex.onTaskChanged(TaskChangedEvent.created(created));
+
+        // Act
+        searchIndex.onTaskChanged(TaskChangedEvent.deleted(renamed));
+        searchIndex.onTaskChanged(TaskChangedEvent.updated(created, renamed));
+
+        // Assert
+        assertThat(searchIndex.search("renamed", 0, 10).total()).isZero();
+        assertThat(searchIndex.search("original", 0, 10).total()).isZero();
+    }
+
+}
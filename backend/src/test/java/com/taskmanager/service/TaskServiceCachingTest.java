@@ -0,0 +1,170 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.CacheConfig;
+import com.taskmanager.exception.TaskNotFoundException;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TaskServiceCachingTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        cache.clear();
+    }
+
+    // Deleted through the service so the in-memory views of the shared context (statistics, search
+    // index, list cache) see the deletes, as they saw the creates
+    @AfterEach
+    void tearDown() {
+        taskRepository.findAll().forEach(task -> taskService.deleteTask(task.getId()));
+    }
+
+    // Helper method for creating test data
+    private Task createValidTask() {
+        Task task = new Task();
+        task.setTitle("Test Task");
+        task.setDescription("Test Description");
+        task.setStatus(TaskStatus.TODO);
+        task.setDueDate(LocalDate.of(2026, 1, 15));
+        return task;
+    }
+
+    @Test
+    void getTaskById_cachesLoadedTask() {
+        // Arrange
+        Task task = taskService.createTask(createValidTask());
+
+        // Act
+        Task first = taskService.getTaskById(task.getId());
+        Task second = taskService.getTaskById(task.getId());
+
+        // Assert
+        assertThat(cache.get(task.getId())).isNotNull();
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void getTaskById_whenTaskMissing_doesNotCacheAbsence() {
+        // Arrange
+        Task task = taskService.createTask(createValidTask());
+        long missingId = task.getId() + 1000;
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getTaskById(missingId)).isInstanceOf(TaskNotFoundException.class);
+        assertThat(cache.get(missingId)).isNull();
+    }
+
+    @Test
+    void updateTask_evictsCachedTask() {
+        // Arrange
+        Task task = taskService.createTask(createValidTask());
+        taskService.getTaskById(task.getId());
+
+        Task update = createValidTask();
+        update.setTitle("Updated Title");
+
+        // Act
+        taskService.updateTask(task.getId(), update, null);
+
+        // Assert
+        assertThat(cache.get(task.getId())).isNull();
+        assertThat(taskService.getTaskById(task.getId()).getTitle()).isEqualTo("Updated Title");
+    }
+
+    @Test
+    void changeStatus_updatesDatabaseAndCachesNewState() {
+        // Arrange
+        Task task = taskService.createTask(createValidTask());
+        taskService.getTaskById(task.getId());
+
+        // Act
+        taskService.changeStatus(task.getId(), TaskStatus.IN_PROGRESS, TaskStatus.TODO);
+        taskService.changeStatus(task.getId(), TaskStatus.DONE, TaskStatus.IN_PROGRESS);
+
+        // Assert
+        Task stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(stored.getVersion()).isEqualTo(2L);
+        assertThat(cache.get(task.getId(), Task.class)).isEqualTo(stored);
+    }
+
+    @Test
+    void changeStatus_withOutdatedCacheEntry_appliesToCurrentRow() {
+        // Arrange
+        Task task = taskService.createTask(createValidTask());
+        cache.put(task.getId(), new Task(task.getId(), "Stale", null, TaskStatus.TODO, null, -1L));
+
+        // Act
+        Task changed = taskService.changeStatus(task.getId(), TaskStatus.DONE, null);
+
+        // Assert
+        assertThat(changed.getTitle()).isEqualTo("Test Task");
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.DONE);
+    }
+
+    @Test
+    void changeStatus_withOutdatedCacheEntryInTargetStatus_appliesToCurrentRow() {
+        // Arrange
+        Task task = taskService.createTask(createValidTask());
+        cache.put(task.getId(), new Task(task.getId(), "Stale", null, TaskStatus.DONE, null, -1L));
+
+        // Act
+        Task changed = taskService.changeStatus(task.getId(), TaskStatus.DONE, null);
+
+        // Assert
+        assertThat(changed.getVersion()).isEqualTo(1L);
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.DONE);
+    }
+
+    @Test
+    void changeStatus_whenTaskNotCached_leavesItUncached() {
+        // Arrange
+        Task task = taskService.createTask(createValidTask());
+
+        // Act
+        taskService.changeStatus(task.getId(), TaskStatus.DONE, null);
+
+        // Assert
+        assertThat(cache.get(task.getId())).isNull();
+    }
+
+    @Test
+    void deleteTask_evictsCachedTask() {
+        // Arrange
+        Task task = taskService.createTask(createValidTask());
+        taskService.getTaskById(task.getId());
+
+        // Act
+        taskService.deleteTask(task.getId());
+
+        // Assert
+        assertThat(cache.get(task.getId())).isNull();
+    }
+
+}
@@ -1,24 +1,52 @@
 package com.taskmanager.service;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.config.CacheConfig;
+import com.taskmanager.dto.BatchItemResult;
+import com.taskmanager.dto.BatchResult;
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.dto.TaskLookupResult;
+import com.taskmanager.dto.TaskPage;
+import com.taskmanager.dto.TaskPatch;
+import com.taskmanager.dto.TaskSearchResult;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.exception.BatchSizeExceededException;
+import com.taskmanager.exception.InvalidPatchException;
 import com.taskmanager.exception.TaskNotFoundException;
+import com.taskmanager.exception.TaskStatusConflictException;
+import com.taskmanager.exception.TaskVersionMismatchException;
 import com.taskmanager.model.Task;
 import com.taskmanager.model.TaskStatus;
 import com.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +55,21 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskSearchIndex searchIndex;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private TaskService taskService;
 
@@ -47,43 +90,182 @@ class TaskServiceTest {
         return task;
     }
 
-    // getAllTasks() tests
+    // getTasks() tests
 
     @Test
-    void getAllTasks_whenTasksExist_returnsTaskList() {
+    void getTasks_whenTasksExist_returnsTaskList() {
         // Arrange
         Task task1 = createValidTask();
         Task task2 = createValidTask();
         task2.setId(2L);
         task2.setTitle("Task 2");
         List<Task> expectedTasks = Arrays.asList(task1, task2);
+        TaskFilter filter = TaskFilter.none();
 
-        when(taskRepository.findAll()).thenReturn(expectedTasks);
+        when(taskRepository.findPage(filter, null, TaskService.DEFAULT_PAGE_SIZE + 1)).thenReturn(expectedTasks);
 
         // Act
-        List<Task> result = taskService.getAllTasks();
+        TaskPage result = taskService.getTasks(filter, null, null);
 
         // Assert
-        assertThat(result)
+        assertThat(result.tasks())
                 .isNotNull()
                 .hasSize(2)
                 .containsExactly(task1, task2);
-        verify(taskRepository, times(1)).findAll();
+        assertThat(result.hasNext()).isFalse();
+        verify(taskRepository, times(1)).findPage(filter, null, TaskService.DEFAULT_PAGE_SIZE + 1);
     }
 
     @Test
-    void getAllTasks_whenNoTasks_returnsEmptyList() {
+    void getTasks_whenNoTasks_returnsEmptyList() {
         // Arrange
-        when(taskRepository.findAll()).thenReturn(Collections.emptyList());
+        when(taskRepository.findPage(any(TaskFilter.class), any(), anyInt())).thenReturn(Collections.emptyList());
 
         // Act
-        List<Task> result = taskService.getAllTasks();
+        TaskPage result = taskService.getTasks(TaskFilter.none(), null, null);
 
         // Assert
-        assertThat(result)
+        assertThat(result.tasks())
                 .isNotNull()
                 .isEmpty();
-        verify(taskRepository, times(1)).findAll();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void getTasks_whenMoreTasksThanLimit_returnsPageWithNextCursor() {
+        // Arrange
+        Task task1 = createValidTask();
+        Task task2 = createValidTask();
+        task2.setId(2L);
+        Task task3 = createValidTask();
+        task3.setId(3L);
+        TaskFilter filter = new TaskFilter(TaskStatus.TODO, null, null);
+
+        when(taskRepository.findPage(filter, 10L, 3)).thenReturn(Arrays.asList(task1, task2, task3));
+
+        // Act
+        TaskPage result = taskService.getTasks(filter, 10L, 2);
+
+        // Assert
+        assertThat(result.tasks()).containsExactly(task1, task2);
+        assertThat(result.nextCursor()).isEqualTo(2L);
+    }
+
+    @Test
+    void getTasks_withLimitAboveMaximum_capsPageSize() {
+        // Arrange
+        when(taskRepository.findPage(any(TaskFilter.class), any(), anyInt())).thenReturn(Collections.emptyList());
+
+        // Act
+        taskService.getTasks(TaskFilter.none(), null, 1_000_000);
+
+        // Assert
+        verify(taskRepository, times(1)).findPage(TaskFilter.none(), null, TaskService.MAX_PAGE_SIZE + 1);
+    }
+
+    // countTasks() tests
+
+    @Test
+    void countTasks_withStatus_countsByStatus() {
+        // Arrange
+        when(taskRepository.countByStatus(TaskStatus.IN_PROGRESS)).thenReturn(7L);
+
+        // Act
+        long count = taskService.countTasks(TaskStatus.IN_PROGRESS, false);
+
+        // Assert
+        assertThat(count).isEqualTo(7L);
+        verify(taskRepository, never()).count();
+    }
+
+    @Test
+    void countTasks_overdueWithoutStatus_countsOpenTasksDueBeforeToday() {
+        // Arrange
+        when(taskRepository.countByStatusInAndDueDateBefore(TaskStatus.OPEN, LocalDate.now())).thenReturn(3L);
+
+        // Act
+        long count = taskService.countTasks(null, true);
+
+        // Assert
+        assertThat(count).isEqualTo(3L);
+    }
+
+    @Test
+    void countTasks_overdueWithDoneStatus_returnsZeroWithoutQuery() {
+        // Act
+        long count = taskService.countTasks(TaskStatus.DONE, true);
+
+        // Assert
+        assertThat(count).isZero();
+        verifyNoInteractions(taskRepository);
+    }
+
+    // searchTasks() tests
+
+    @Test
+    void searchTasks_loadsHitsInRankingOrderAndSkipsDeletedOnes() {
+        // Arrange
+        Task first = createValidTask();
+        first.setId(7L);
+        Task second = createValidTask();
+        second.setId(3L);
+        when(searchIndex.search("report", 20, 10)).thenReturn(new TaskSearchIndex.Hits(List.of(7L, 5L, 3L), 23));
+        when(taskRepository.findAllById(List.of(7L, 5L, 3L))).thenReturn(List.of(second, first));
+
+        // Act
+        TaskSearchResult result = taskService.searchTasks("report", 2, 10);
+
+        // Assert
+        assertThat(result.tasks()).containsExactly(first, second);
+        assertThat(result.total()).isEqualTo(23);
+    }
+
+    @Test
+    void searchTasks_pastMaximumHits_returnsEmptyPageWithTotal() {
+        // Arrange
+        when(searchIndex.search("report", 0, 0)).thenReturn(new TaskSearchIndex.Hits(List.of(), 20_000));
+
+        // Act
+        TaskSearchResult result = taskService.searchTasks("report", 1_000, 20);
+
+        // Assert
+        assertThat(result.tasks()).isEmpty();
+        assertThat(result.total()).isEqualTo(20_000);
+        verifyNoInteractions(taskRepository);
+    }
+
+    // exportTasks() tests
+
+    @Test
+    void exportTasks_passesEveryTaskToConsumerAndDetachesIt() {
+        // Arrange
+        Task task1 = createValidTask();
+        Task task2 = createValidTask();
+        task2.setId(2L);
+        when(taskRepository.streamAllOrderedById()).thenReturn(Stream.of(task1, task2));
+        List<Task> exported = new ArrayList<>();
+
+        // Act
+        taskService.exportTasks(exported::add);
+
+        // Assert
+        assertThat(exported).containsExactly(task1, task2);
+        verify(entityManager, times(1)).detach(task1);
+        verify(entityManager, times(1)).detach(task2);
+    }
+
+    @Test
+    void exportTasks_closesStream() {
+        // Arrange
+        boolean[] closed = {false};
+        when(taskRepository.streamAllOrderedById())
+                .thenReturn(Stream.of(createValidTask()).onClose(() -> closed[0] = true));
+
+        // Act
+        taskService.exportTasks(task -> { });
+
+        // Assert
+        assertThat(closed[0]).isTrue();
     }
 
     // getTaskById() tests
@@ -118,6 +300,66 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).findById(999L);
     }
 
+    @Test
+    void getTaskById_whenTaskNotFound_throwsWithoutStackTrace() {
+        // Arrange
+        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getTaskById(999L))
+                .isSameAs(TaskNotFoundException.INSTANCE)
+                .satisfies(ex -> assertThat(ex.getStackTrace()).isEmpty());
+    }
+
+    // getTasksById() tests
+
+    @Test
+    void getTasksById_returnsTasksInRequestOrderOnceAndMissingIds() {
+        // Arrange
+        Task first = createValidTask();
+        Task second = createValidTask();
+        second.setId(2L);
+        when(taskRepository.findAllById(List.of(2L, 999L, 1L))).thenReturn(List.of(first, second));
+
+        // Act
+        TaskLookupResult result = taskService.getTasksById(Arrays.asList(2L, 999L, 1L, 2L, null));
+
+        // Assert
+        assertThat(result.tasks()).containsExactly(second, first);
+        assertThat(result.missing()).containsExactly(999L);
+        verify(taskRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void getTasksById_readsOnlyUncachedTasks() {
+        // Arrange
+        Task cached = createValidTask();
+        Task loaded = createValidTask();
+        loaded.setId(2L);
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache(CacheConfig.TASKS_CACHE)).thenReturn(cache);
+        when(cache.get(1L, Task.class)).thenReturn(cached);
+        when(taskRepository.findAllById(List.of(2L))).thenReturn(List.of(loaded));
+
+        // Act
+        TaskLookupResult result = taskService.getTasksById(List.of(1L, 2L));
+
+        // Assert
+        assertThat(result.tasks()).containsExactly(cached, loaded);
+        assertThat(result.missing()).isEmpty();
+    }
+
+    @Test
+    void getTasksById_pastMaximumBatchSize_throwsBatchSizeExceededException() {
+        // Arrange
+        List<Long> ids = Stream.iterate(1L, id -> id + 1).limit(TaskService.MAX_BATCH_SIZE + 1).toList();
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getTasksById(ids))
+                .isInstanceOf(BatchSizeExceededException.class);
+        verifyNoInteractions(taskRepository);
+    }
+
     // createTask() tests
 
     @Test
@@ -174,7 +416,7 @@ class TaskServiceTest {
         when(taskRepository.save(any(Task.class))).thenReturn(existingTask);
 
         // Act
-        taskService.updateTask(1L, updateData);
+        taskService.updateTask(1L, updateData, null);
 
         // Assert
         verify(taskRepository, times(1)).save(argThat(task ->
@@ -196,7 +438,7 @@ class TaskServiceTest {
         when(taskRepository.save(any(Task.class))).thenReturn(existingTask);
 
         // Act
-        Task result = taskService.updateTask(1L, updateData);
+        Task result = taskService.updateTask(1L, updateData, null);
 
         // Assert
         assertThat(result)
@@ -206,6 +448,60 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).save(existingTask);
     }
 
+    @Test
+    void updateTask_publishesEventWithPreviousAndCurrentState() {
+        // Arrange
+        Task existingTask = createValidTask();
+        Task updateData = createValidTask();
+        updateData.setStatus(TaskStatus.DONE);
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTask));
+        when(taskRepository.save(existingTask)).thenReturn(existingTask);
+
+        // Act
+        taskService.updateTask(1L, updateData, null);
+
+        // Assert
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(TaskChangedEvent.Type.UPDATED);
+        assertThat(event.getValue().previous().getStatus()).isEqualTo(TaskStatus.TODO);
+        assertThat(event.getValue().current()).isSameAs(existingTask);
+        assertThat(event.getValue().current().getStatus()).isEqualTo(TaskStatus.DONE);
+    }
+
+    @Test
+    void updateTask_withMatchingVersion_updatesTask() {
+        // Arrange
+        Task existingTask = createValidTask();
+        existingTask.setVersion(3L);
+        Task updateData = createValidTask();
+        updateData.setTitle("Updated");
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(existingTask);
+
+        // Act
+        Task result = taskService.updateTask(1L, updateData, 3L);
+
+        // Assert
+        assertThat(result.getTitle()).isEqualTo("Updated");
+        verify(taskRepository, times(1)).save(existingTask);
+    }
+
+    @Test
+    void updateTask_withStaleVersion_throwsTaskVersionMismatchException() {
+        // Arrange
+        Task existingTask = createValidTask();
+        existingTask.setVersion(4L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTask));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.updateTask(1L, createValidTask(), 3L))
+                .isInstanceOf(TaskVersionMismatchException.class);
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
     @Test
     void updateTask_whenTaskNotFound_throwsTaskNotFoundException() {
         // Arrange
@@ -213,7 +509,7 @@ class TaskServiceTest {
         when(taskRepository.findById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> taskService.updateTask(999L, updateData))
+        assertThatThrownBy(() -> taskService.updateTask(999L, updateData, null))
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessage("Task not found");
         verify(taskRepository, times(1)).findById(999L);
@@ -234,7 +530,7 @@ class TaskServiceTest {
         when(taskRepository.save(any(Task.class))).thenReturn(existingTask);
 
         // Act
-        taskService.updateTask(1L, updateData);
+        taskService.updateTask(1L, updateData, null);
 
         // Assert
         verify(taskRepository, times(1)).save(argThat(task ->
@@ -243,6 +539,220 @@ class TaskServiceTest {
         ));
     }
 
+    // patchTask() tests
+
+    @Test
+    void patchTask_changesOnlyPatchedFields() {
+        // Arrange
+        Task existingTask = createValidTask();
+        Task values = new Task();
+        values.setStatus(TaskStatus.DONE);
+        values.setDescription(null);
+        TaskPatch patch = new TaskPatch(Set.of("status", "description"), values);
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTask));
+        when(taskRepository.save(existingTask)).thenReturn(existingTask);
+
+        // Act
+        Task result = taskService.patchTask(1L, patch, null);
+
+        // Assert
+        assertThat(result.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(result.getDescription()).isNull();
+        assertThat(result.getTitle()).isEqualTo("Test Task");
+        assertThat(result.getDueDate()).isEqualTo(LocalDate.of(2026, 1, 15));
+        verify(eventPublisher, times(1)).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void patchTask_validatesOnlyPatchedFields() {
+        // Arrange
+        Task values = new Task();
+        values.setTitle("");
+        values.setDescription("a".repeat(501));
+        TaskPatch patch = new TaskPatch(Set.of("title"), values);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.patchTask(1L, patch, null))
+                .isInstanceOf(InvalidPatchException.class)
+                .satisfies(e -> assertThat(((InvalidPatchException) e).getErrors())
+                        .containsOnlyKeys("title"));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void patchTask_withStaleVersion_throwsTaskVersionMismatchException() {
+        // Arrange
+        Task existingTask = createValidTask();
+        existingTask.setVersion(5L);
+        TaskPatch patch = new TaskPatch(Set.of("status"), new Task());
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTask));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.patchTask(1L, patch, 4L))
+                .isInstanceOf(TaskVersionMismatchException.class);
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    // changeStatus() tests
+
+    private Cache cacheWith(Task task) {
+        Cache cache = new CaffeineCache(CacheConfig.TASKS_CACHE, Caffeine.newBuilder().build());
+        cache.put(task.getId(), task);
+        when(cacheManager.getCache(CacheConfig.TASKS_CACHE)).thenReturn(cache);
+        return cache;
+    }
+
+    @Test
+    void changeStatus_whenTaskCached_updatesWithoutLoading() {
+        // Arrange
+        Task cached = createValidTask();
+        cached.setVersion(2L);
+        Cache cache = cacheWith(cached);
+        when(taskRepository.updateStatus(1L, 2L, TaskStatus.DONE)).thenReturn(1);
+
+        // Act
+        Task result = taskService.changeStatus(1L, TaskStatus.DONE, TaskStatus.TODO);
+
+        // Assert
+        assertThat(result.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(result.getVersion()).isEqualTo(3L);
+        assertThat(cached.getStatus()).isEqualTo(TaskStatus.TODO);
+        assertThat(cache.get(1L, Task.class)).isSameAs(result);
+        verify(taskRepository, never()).findById(any());
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.updated(cached, result));
+    }
+
+    @Test
+    void changeStatus_whenCachedVersionIsNewer_keepsCachedTask() {
+        // Arrange
+        Task cached = createValidTask();
+        cached.setVersion(5L);
+        Task current = createValidTask();
+        current.setVersion(3L);
+        Cache cache = cacheWith(cached);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(current));
+        when(taskRepository.updateStatus(1L, 3L, TaskStatus.DONE)).thenReturn(1);
+
+        // Act
+        Task result = taskService.changeStatus(1L, TaskStatus.DONE, null);
+
+        // Assert
+        assertThat(result.getVersion()).isEqualTo(4L);
+        assertThat(cache.get(1L, Task.class)).isSameAs(cached);
+    }
+
+    @Test
+    void changeStatus_whenCachedTaskAlreadyInStatus_checksRow() {
+        // Arrange
+        Task cached = createValidTask();
+        cached.setStatus(TaskStatus.DONE);
+        cached.setVersion(2L);
+        Task current = createValidTask();
+        current.setVersion(3L);
+        cacheWith(cached);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(current));
+        when(taskRepository.updateStatus(1L, 3L, TaskStatus.DONE)).thenReturn(1);
+
+        // Act
+        Task result = taskService.changeStatus(1L, TaskStatus.DONE, null);
+
+        // Assert
+        assertThat(result.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(result.getVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    void changeStatus_whenTaskAlreadyInStatus_returnsItUnchanged() {
+        // Arrange
+        Task current = createValidTask();
+        current.setStatus(TaskStatus.DONE);
+        current.setVersion(3L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(current));
+
+        // Act
+        Task result = taskService.changeStatus(1L, TaskStatus.DONE, null);
+
+        // Assert
+        assertThat(result).isEqualTo(current);
+        verify(taskRepository, never()).updateStatus(any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void changeStatus_whenCachedTaskOutdated_reloadsAndRetries() {
+        // Arrange
+        Task cached = createValidTask();
+        cached.setVersion(2L);
+        Task current = createValidTask();
+        current.setVersion(5L);
+        cacheWith(cached);
+        when(taskRepository.updateStatus(1L, 2L, TaskStatus.DONE)).thenReturn(0);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(current));
+        when(taskRepository.updateStatus(1L, 5L, TaskStatus.DONE)).thenReturn(1);
+
+        // Act
+        Task result = taskService.changeStatus(1L, TaskStatus.DONE, null);
+
+        // Assert
+        assertThat(result.getVersion()).isEqualTo(6L);
+    }
+
+    @Test
+    void changeStatus_whenNotCached_loadsTaskOnce() {
+        // Arrange
+        Task current = createValidTask();
+        current.setVersion(0L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(current));
+        when(taskRepository.updateStatus(1L, 0L, TaskStatus.IN_PROGRESS)).thenReturn(1);
+
+        // Act
+        Task result = taskService.changeStatus(1L, TaskStatus.IN_PROGRESS, null);
+
+        // Assert
+        assertThat(result.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void changeStatus_withUnexpectedStatus_throwsTaskStatusConflictException() {
+        // Arrange
+        Task current = createValidTask();
+        current.setStatus(TaskStatus.DONE);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(current));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.changeStatus(1L, TaskStatus.IN_PROGRESS, TaskStatus.TODO))
+                .isInstanceOf(TaskStatusConflictException.class)
+                .hasMessage("Task is not in status TODO");
+        verify(taskRepository, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    void changeStatus_whenModifiedConcurrently_throwsOptimisticLockingFailure() {
+        // Arrange
+        Task current = createValidTask();
+        current.setVersion(1L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(current));
+        when(taskRepository.updateStatus(1L, 1L, TaskStatus.DONE)).thenReturn(0);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.changeStatus(1L, TaskStatus.DONE, null))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void changeStatus_whenTaskNotFound_throwsTaskNotFoundException() {
+        // Arrange
+        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.changeStatus(999L, TaskStatus.DONE, null))
+                .isInstanceOf(TaskNotFoundException.class);
+    }
+
     // deleteTask() tests
 
     @Test
@@ -257,6 +767,7 @@ class TaskServiceTest {
         // Assert
         verify(taskRepository, times(1)).findById(1L);
         verify(taskRepository, times(1)).delete(existingTask);
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.deleted(existingTask));
     }
 
     @Test
@@ -272,4 +783,136 @@ class TaskServiceTest {
         verify(taskRepository, never()).delete(any(Task.class));
     }
 
+    // createTasks() tests
+
+    @Test
+    void createTasks_withValidAndInvalidTasks_savesOnlyValidOnes() {
+        // Arrange
+        Task valid = createValidTask();
+        Task invalid = createTaskWithoutId();
+        invalid.setTitle("");
+
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BatchResult result = taskService.createTasks(Arrays.asList(valid, invalid));
+
+        // Assert
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.results().get(0).status()).isEqualTo(201);
+        assertThat(result.results().get(1).status()).isEqualTo(400);
+        assertThat(result.results().get(1).errors()).containsKey("title");
+        verify(taskRepository, times(1)).save(argThat(task -> task.getId() == null));
+    }
+
+    @Test
+    void createTasks_whenBatchTooLarge_throwsBatchSizeExceededException() {
+        // Arrange
+        List<Task> tasks = Collections.nCopies(TaskService.MAX_BATCH_SIZE + 1, createTaskWithoutId());
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.createTasks(tasks))
+                .isInstanceOf(BatchSizeExceededException.class);
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    // updateTasks() tests
+
+    @Test
+    void updateTasks_loadsExistingTasksOnceAndReportsMissingOnes() {
+        // Arrange
+        Task existingTask = createValidTask();
+        Task update = createValidTask();
+        update.setTitle("Updated Title");
+        Task missing = createValidTask();
+        missing.setId(999L);
+        Task withoutId = createTaskWithoutId();
+
+        when(taskRepository.findAllById(List.of(1L, 999L))).thenReturn(List.of(existingTask));
+
+        // Act
+        BatchResult result = taskService.updateTasks(Arrays.asList(update, missing, withoutId));
+
+        // Assert
+        assertThat(result.results())
+                .extracting(BatchItemResult::status)
+                .containsExactly(200, 404, 400);
+        assertThat(existingTask.getTitle()).isEqualTo("Updated Title");
+        assertThat(result.results().get(2).errors()).containsKey("id");
+        verify(taskRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void updateTasks_whenTaskUpdatedTwice_publishesOneEventFromOriginalState() {
+        // Arrange
+        Task existingTask = createValidTask();
+        Task first = createValidTask();
+        first.setStatus(TaskStatus.IN_PROGRESS);
+        Task second = createValidTask();
+        second.setStatus(TaskStatus.DONE);
+
+        when(taskRepository.findAllById(List.of(1L))).thenReturn(List.of(existingTask));
+
+        // Act
+        taskService.updateTasks(List.of(first, second));
+
+        // Assert
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertThat(event.getValue().previous().getStatus()).isEqualTo(TaskStatus.TODO);
+        assertThat(event.getValue().current().getStatus()).isEqualTo(TaskStatus.DONE);
+    }
+
+    // deleteTasks() tests
+
+    @Test
+    void deleteTasks_deletesExistingTasksInOneStatement() {
+        // Arrange
+        Task existingTask = createValidTask();
+        when(taskRepository.findAllByIdForUpdate(List.of(1L, 999L))).thenReturn(List.of(existingTask));
+        when(taskRepository.deleteAllByIdIn(Set.of(1L))).thenReturn(1);
+
+        // Act
+        BatchResult result = taskService.deleteTasks(List.of(1L, 999L));
+
+        // Assert
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.results())
+                .extracting(BatchItemResult::status)
+                .containsExactly(204, 404);
+        verify(taskRepository, times(1)).deleteAllByIdIn(Set.of(1L));
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.deleted(existingTask));
+    }
+
+    @Test
+    void deleteTasks_whenRowsAlreadyGone_failsWithoutPublishing() {
+        // Arrange
+        Task first = createValidTask();
+        Task second = createValidTask();
+        second.setId(2L);
+        when(taskRepository.findAllByIdForUpdate(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(taskRepository.deleteAllByIdIn(Set.of(1L, 2L))).thenReturn(1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.deleteTasks(List.of(1L, 2L)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void deleteTasks_whenNoneExist_deletesNothing() {
+        // Arrange
+        when(taskRepository.findAllByIdForUpdate(List.of(999L))).thenReturn(List.of());
+
+        // Act
+        BatchResult result = taskService.deleteTasks(List.of(999L));
+
+        // Assert
+        assertThat(result.results())
+                .extracting(BatchItemResult::status)
+                .containsExactly(404);
+        verify(taskRepository, never()).deleteAllByIdIn(any());
+    }
+
 }
@@ -0,0 +1,129 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskCount;
+import com.taskmanager.dto.TaskStats;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatisticsTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskStatistics taskStatistics;
+
+    private Task createTask(TaskStatus status, LocalDate dueDate) {
+        return new Task(1L, "Test Task", null, status, dueDate, 0L);
+    }
+
+    @Test
+    void seed_countsTasksFromGroupedQuery() {
+        // Arrange
+        when(taskRepository.countByStatusAndDueDate()).thenReturn(List.of(
+                new TaskCount(TaskStatus.TODO, TODAY.minusDays(2), 3L),
+                new TaskCount(TaskStatus.TODO, null, 1L),
+                new TaskCount(TaskStatus.IN_PROGRESS, TODAY, 2L),
+                new TaskCount(TaskStatus.DONE, TODAY.minusDays(2), 4L)));
+
+        // Act
+        taskStatistics.seed();
+        TaskStats stats = taskStatistics.getStats(TODAY);
+
+        // Assert
+        assertThat(stats.byStatus())
+                .containsEntry(TaskStatus.TODO, 4L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 2L)
+                .containsEntry(TaskStatus.DONE, 4L);
+        assertThat(stats.total()).isEqualTo(10);
+        assertThat(stats.overdue()).isEqualTo(3);
+        verify(taskRepository, times(1)).countByStatusAndDueDate();
+    }
+
+    @Test
+    void seed_again_replacesCounts() {
+        // Arrange
+        when(taskRepository.countByStatusAndDueDate())
+                .thenReturn(List.of(new TaskCount(TaskStatus.TODO, TODAY.minusDays(2), 3L)))
+                .thenReturn(List.of(new TaskCount(TaskStatus.TODO, TODAY.minusDays(2), 5L)));
+        taskStatistics.seed();
+
+        // Act
+        taskStatistics.seed();
+        TaskStats stats = taskStatistics.getStats(TODAY);
+
+        // Assert
+        assertThat(stats.byStatus()).containsEntry(TaskStatus.TODO, 5L);
+        assertThat(stats.total()).isEqualTo(5);
+        assertThat(stats.overdue()).isEqualTo(5);
+    }
+
+    @Test
+    void onTaskChanged_movesCountsBetweenStatuses() {
+        // Arrange
+        Task todo = createTask(TaskStatus.TODO, TODAY.minusDays(1));
+        Task done = createTask(TaskStatus.DONE, TODAY.minusDays(1));
+
+        // Act
+        taskStatistics.onTaskChanged(TaskChangedEvent.created(todo));
+        TaskStats afterCreate = taskStatistics.getStats(TODAY);
+        taskStatistics.onTaskChanged(TaskChangedEvent.updated(todo, done));
+        TaskStats afterUpdate = taskStatistics.getStats(TODAY);
+        taskStatistics.onTaskChanged(TaskChangedEvent.deleted(done));
+        TaskStats afterDelete = taskStatistics.getStats(TODAY);
+
+        // Assert
+        assertThat(afterCreate.byStatus()).containsEntry(TaskStatus.TODO, 1L);
+        assertThat(afterCreate.overdue()).isEqualTo(1);
+        assertThat(afterUpdate.byStatus())
+                .containsEntry(TaskStatus.TODO, 0L)
+                .containsEntry(TaskStatus.DONE, 1L);
+        assertThat(afterUpdate.overdue()).isZero();
+        assertThat(afterDelete.total()).isZero();
+    }
+
+    @Test
+    void getStats_whenDueDatePasses_countsOpenTaskAsOverdue() {
+        // Arrange
+        taskStatistics.onTaskChanged(TaskChangedEvent.created(createTask(TaskStatus.IN_PROGRESS, TODAY.plusDays(1))));
+
+        // Act
+        TaskStats tomorrow = taskStatistics.getStats(TODAY.plusDays(1));
+        TaskStats dayAfter = taskStatistics.getStats(TODAY.plusDays(2));
+
+        // Assert
+        assertThat(tomorrow.overdue()).isZero();
+        assertThat(dayAfter.overdue()).isEqualTo(1);
+    }
+
+    @Test
+    void onTaskChanged_afterRollOver_updatesOverdueCount() {
+        // Arrange
+        Task task = createTask(TaskStatus.TODO, TODAY.plusDays(1));
+        taskStatistics.onTaskChanged(TaskChangedEvent.created(task));
+        taskStatistics.getStats(TODAY.plusDays(2));
+
+        // Act
+        taskStatistics.onTaskChanged(TaskChangedEvent.deleted(task));
+
+        // Assert
+        assertThat(taskStatistics.getStats(TODAY.plusDays(2)).overdue()).isZero();
+    }
+
+}
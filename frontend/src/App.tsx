@@ -1,20 +1,42 @@
 import { useState, useEffect } from 'react';
 import { taskApi, ApiError } from './services/api';
-import { Task, TaskStatus } from './types/task';
+import { Task, TaskDelta, TaskStatus } from './types/task';
 import { TaskList } from './components/TaskList';
 import { TaskForm } from './components/TaskForm';
 
+// Replace or add a task; our own writes also arrive over the change feed, so this must be idempotent
+// and must not let an older version overwrite a newer one
+function upsertTask(tasks: Task[], task: Task): Task[] {
+  const index = tasks.findIndex(t => t.id === task.id);
+  if (index === -1) {
+    return [...tasks, task];
+  }
+  if ((tasks[index].version ?? -1) > (task.version ?? -1)) {
+    return tasks;
+  }
+  return tasks.map((t, i) => i === index ? task : t);
+}
+
 export function App() {
   const [tasks, setTasks] = useState<Task[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [editingTask, setEditingTask] = useState<Task | null>(null);
 
-  // Load tasks on mount
+  // The change feed starts with a reset (full load) and then pushes deltas, so no polling is needed
   useEffect(() => {
-    loadTasks();
+    return taskApi.subscribeToChanges(
+      applyDelta,
+      loadTasks,
+      () => setError('Lost connection to the server, reconnecting...')
+    );
   }, []);
 
+  const applyDelta = (delta: TaskDelta) => {
+    setError(null);
+    setTasks(current => delta.task ? upsertTask(current, delta.task) : current.filter(t => t.id !== delta.id));
+  };
+
   const loadTasks = async () => {
     try {
       setLoading(true);
@@ -36,7 +58,7 @@ export function App() {
     try {
       setError(null);
       const newTask = await taskApi.createTask(task);
-      setTasks([...tasks, newTask]);
+      setTasks(current => upsertTask(current, newTask));
     } catch (err) {
       if (err instanceof ApiError) {
         throw err; // Let the form handle validation errors
@@ -46,13 +68,16 @@ export function App() {
     }
   };
 
-  const handleUpdateTask = async (id: number, task: Omit<Task, 'id'>) => {
+  const handleUpdateTask = async (id: number, task: Omit<Task, 'id'>, version?: number) => {
     try {
       setError(null);
-      const updatedTask = await taskApi.updateTask(id, task);
-      setTasks(tasks.map(t => t.id === id ? updatedTask : t));
+      const updatedTask = await taskApi.updateTask(id, task, version);
+      setTasks(current => upsertTask(current, updatedTask));
       setEditingTask(null);
     } catch (err) {
+      if (err instanceof ApiError && err.status === 412) {
+        setError('This task was changed by someone else. Reload to see the latest version.');
+      }
       if (err instanceof ApiError) {
         throw err; // Let the form handle validation errors
       }
@@ -69,7 +94,7 @@ export function App() {
     try {
       setError(null);
       await taskApi.deleteTask(id);
-      setTasks(tasks.filter(t => t.id !== id));
+      setTasks(current => current.filter(t => t.id !== id));
     } catch (err) {
       if (err instanceof ApiError) {
         setError(`Failed to delete task: ${err.message}`);
@@ -84,13 +109,12 @@ export function App() {
 
     try {
       setError(null);
-      const updatedTask = await taskApi.updateTask(task.id, {
-        ...task,
-        status: newStatus,
-      });
-      setTasks(tasks.map(t => t.id === task.id ? updatedTask : t));
+      const updatedTask = await taskApi.changeStatus(task.id, newStatus, task.status);
+      setTasks(current => upsertTask(current, updatedTask));
     } catch (err) {
-      if (err instanceof ApiError) {
+      if (err instanceof ApiError && err.status === 409) {
+        setError('This task was moved by someone else in the meantime.');
+      } else if (err instanceof ApiError) {
         setError(`Failed to update task status: ${err.message}`);
       } else {
         setError('Failed to update task status');
@@ -133,7 +157,7 @@ export function App() {
               <TaskForm
                 task={editingTask}
                 onSubmit={editingTask && editingTask.id
-                  ? (task) => handleUpdateTask(editingTask.id!, task)
+                  ? (task) => handleUpdateTask(editingTask.id!, task, editingTask.version)
                   : handleCreateTask
                 }
                 onCancel={() => setEditingTask(null)}
@@ -1,4 +1,4 @@
-import { Task } from '../types/task';
+import { Task, TaskDelta, TaskStatus } from '../types/task';
 
 // Use environment variable for API URL, fallback to /api for local development with Vite proxy
 const API_BASE_URL = import.meta.env.VITE_API_URL || '/api';
@@ -32,11 +32,24 @@ async function handleResponse<T>(response: Response): Promise<T> {
   return response.json();
 }
 
+// Extract the rel="next" target from a Link header, resolved against the URL it came from
+function nextPageUrl(response: Response): string | null {
+  const link = response.headers.get('Link');
+  const match = link?.match(/<([^>]+)>;\s*rel="next"/);
+  return match ? new URL(match[1], response.url).toString() : null;
+}
+
 export const taskApi = {
-  // Get all tasks
+  // Get all tasks, following the paginated listing page by page
   getAllTasks: async (): Promise<Task[]> => {
-    const response = await fetch(`${API_BASE_URL}/tasks`);
-    return handleResponse<Task[]>(response);
+    const tasks: Task[] = [];
+    let url: string | null = `${API_BASE_URL}/tasks`;
+    while (url) {
+      const response = await fetch(url);
+      tasks.push(...(await handleResponse<Task[]>(response)));
+      url = nextPageUrl(response);
+    }
+    return tasks;
   },
 
   // Get task by ID
@@ -57,18 +70,44 @@ export const taskApi = {
     return handleResponse<Task>(response);
   },
 
-  // Update an existing task
-  updateTask: async (id: number, task: Omit<Task, 'id'>): Promise<Task> => {
+  // Update an existing task; with a version, the update fails with 412 if someone else changed it first
+  updateTask: async (id: number, task: Omit<Task, 'id'>, version?: number): Promise<Task> => {
     const response = await fetch(`${API_BASE_URL}/tasks/${id}`, {
       method: 'PUT',
       headers: {
         'Content-Type': 'application/json',
+        ...(version !== undefined ? { 'If-Match': `"${version}"` } : {}),
       },
       body: JSON.stringify(task),
     });
     return handleResponse<Task>(response);
   },
 
+  // Change only the given fields (JSON Merge Patch); null clears a field
+  patchTask: async (id: number, patch: Partial<Omit<Task, 'id' | 'version'>>, version?: number): Promise<Task> => {
+    const response = await fetch(`${API_BASE_URL}/tasks/${id}`, {
+      method: 'PATCH',
+      headers: {
+        'Content-Type': 'application/merge-patch+json',
+        ...(version !== undefined ? { 'If-Match': `"${version}"` } : {}),
+      },
+      body: JSON.stringify(patch),
+    });
+    return handleResponse<Task>(response);
+  },
+
+  // Move a task to another status; fails with 409 if it is no longer in expectedStatus
+  changeStatus: async (id: number, status: TaskStatus, expectedStatus?: TaskStatus): Promise<Task> => {
+    const response = await fetch(`${API_BASE_URL}/tasks/${id}/status`, {
+      method: 'POST',
+      headers: {
+        'Content-Type': 'application/json',
+      },
+      body: JSON.stringify({ status, expectedStatus }),
+    });
+    return handleResponse<Task>(response);
+  },
+
   // Delete a task
   deleteTask: async (id: number): Promise<void> => {
     const response = await fetch(`${API_BASE_URL}/tasks/${id}`, {
@@ -76,6 +115,20 @@ export const taskApi = {
     });
     return handleResponse<void>(response);
   },
+
+  // Subscribe to task changes. onReset means the client is out of sync and must reload the list;
+  // EventSource reconnects by itself and resumes from the last event it received.
+  subscribeToChanges: (
+    onDelta: (delta: TaskDelta) => void,
+    onReset: () => void,
+    onError: () => void
+  ): (() => void) => {
+    const source = new EventSource(`${API_BASE_URL}/tasks/events`);
+    source.addEventListener('task', (event) => onDelta(JSON.parse((event as MessageEvent).data)));
+    source.addEventListener('reset', onReset);
+    source.onerror = onError;
+    return () => source.close();
+  },
 };
 
 export { ApiError };
@@ -10,6 +10,14 @@ export interface Task {
   description?: string;
   status: TaskStatus;
   dueDate?: string; // ISO date string (YYYY-MM-DD)
+  version?: number; // Incremented by the server on every update
+}
+
+// A change pushed by the server over /api/tasks/events; task is absent for deletes
+export interface TaskDelta {
+  type: 'CREATED' | 'UPDATED' | 'DELETED';
+  id: number;
+  task?: Task;
 }
 
 export interface ValidationError {